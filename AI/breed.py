@@ -0,0 +1,37 @@
+# -*- coding: utf-8 -*-
+"""
+품종 이름 정규화 (Backend BreedAliasDictionary 와 같은 규칙).
+- 소문자화 → 공백/_/- 연속은 "_" 하나로 → 앞뒤 "_" 제거 → "[개] " 같은 분류 접두어 제거
+- 별칭 사전에 있으면 정규 키, 없으면 정규화한 문자열 그대로
+규칙/공유 키가 바뀌면 docs/fixtures/breed_normalize_cases.tsv 와 test_breed.py 로 양쪽을 함께 확인한다.
+"""
+
+import re
+from typing import Dict
+
+# Backend breed-aliases.csv 의 jindo/pomeranian/toy_poodle/mix 행과 같은 별칭
+BREED_ALIASES: Dict[str, set] = {
+    "jindo": {"jindo-dog", "jindo", "진도", "jindo_dog", "진도견", "진돗개", "진도개"},
+    "pomeranian": {"pomeranian", "포메", "pome", "포메라니안", "포메라니언"},
+    "toy_poodle": {"toy_poodle", "toy-poodle", "poodle", "토이푸들", "푸들"},
+    "mix": {"mix", "mixed", "믹스", "mongrel", "믹스견", "잡종", "혼종"},
+}
+
+_SEPARATORS = re.compile(r"[\s_\-]+")
+
+
+def normalize_key(name: str) -> str:
+    x = _SEPARATORS.sub("_", name.lower()).strip("_")
+    if x.startswith("[") and "]" in x:
+        x = x[x.index("]") + 1:].strip("_")
+    return x
+
+
+_CANONICAL_BY_ALIAS: Dict[str, str] = {
+    normalize_key(alias): k for k, vals in BREED_ALIASES.items() for alias in vals | {k}
+}
+
+
+def normalize_breed(name: str) -> str:
+    x = normalize_key(name)
+    return _CANONICAL_BY_ALIAS.get(x, x)
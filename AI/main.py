@@ -37,6 +37,8 @@ from skimage import color as skcolor  # ΔE2000
 from diffusers import StableDiffusionImg2ImgPipeline, DPMSolverMultistepScheduler
 from diffusers.utils import load_image
 
+from breed import normalize_breed
+
 
 # ================================
 # Global models
@@ -58,13 +60,6 @@ class SearchWeights:
     sigma: float = 10.0  # color sensitivity for ΔE → similarity
 
 
-BREED_ALIASES: Dict[str, set] = {
-    "jindo": {"jindo-dog", "jindo", "진도", "jindo_dog"},
-    "pomeranian": {"pomeranian", "포메", "pome"},
-    "toy_poodle": {"toy_poodle", "toy-poodle", "poodle", "토이푸들"},
-    "mix": {"mix", "mixed", "믹스", "mongrel"},
-}
-
 # 하드 필터 규칙
 @dataclass
 class SearchRules:
@@ -173,13 +168,6 @@ class DebugState:
 # Utility helpers (seg/color, breed, color sim)
 # ================================
 
-def normalize_breed(name: str) -> str:
-    x = name.lower().replace(" ", "_")
-    for k, vals in BREED_ALIASES.items():
-        if x in vals:
-            return k
-    return x
-
 def breed_similarity(qb: Optional[str], cb: str) -> float:
     return 1.0 if qb and normalize_breed(qb) == normalize_breed(cb) else 0.0
 
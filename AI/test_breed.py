@@ -0,0 +1,45 @@
+# -*- coding: utf-8 -*-
+"""품종 정규화 규칙 확인: python -m unittest test_breed (AI 디렉터리에서 실행)"""
+
+import csv
+import unittest
+from pathlib import Path
+
+from breed import BREED_ALIASES, normalize_breed, normalize_key
+
+ROOT = Path(__file__).resolve().parent.parent
+CASES = ROOT / "docs" / "fixtures" / "breed_normalize_cases.tsv"
+BACKEND_ALIASES = ROOT / "Backend" / "src" / "main" / "resources" / "breed" / "breed-aliases.csv"
+
+
+def load_cases():
+    with CASES.open(encoding="utf-8") as f:
+        for line in f:
+            line = line.rstrip("\n")
+            if not line.strip() or line.startswith("#"):
+                continue
+            raw, expected = line.split("\t")
+            yield raw, expected
+
+
+class BreedNormalizeTest(unittest.TestCase):
+
+    def test_shared_cases(self):
+        for raw, expected in load_cases():
+            with self.subTest(raw=raw):
+                self.assertEqual(expected, normalize_breed(raw))
+
+    def test_aliases_match_backend_rows(self):
+        with BACKEND_ALIASES.open(encoding="utf-8") as f:
+            rows = {
+                row[0].strip(): {normalize_key(a) for a in row}
+                for row in csv.reader(f)
+                if row and not row[0].startswith("#")
+            }
+        for key, aliases in BREED_ALIASES.items():
+            with self.subTest(key=key):
+                self.assertEqual(rows[key], {normalize_key(a) for a in aliases | {key}})
+
+
+if __name__ == "__main__":
+    unittest.main()
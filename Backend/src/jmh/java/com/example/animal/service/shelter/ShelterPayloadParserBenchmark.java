@@ -0,0 +1,105 @@
+package com.example.animal.service.shelter;
+
+import com.example.animal.dto.ShelterApiResponseWrapper;
+import com.example.animal.dto.ShelterPage;
+import com.example.animal.dto.ShelterResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 보호소 응답 파싱 비교 (mvn -Pjmh compile exec:exec).
+ * - legacyBind*: 기존 getShelterDataFiltered 방식 (요청마다 new ObjectMapper → 전체 DTO 바인딩 → 스트림 필터)
+ * - parser*: ShelterPayloadParser (공유 JsonFactory 토큰 파싱, 필터 통과 항목만 생성, 숫자 필드 변환 포함)
+ * - parserStream: upstream 바이트 스트림에서 바로 파싱 (스냅샷 적재 경로)
+ * -prof gc 로 op 당 할당량(gc.alloc.rate.norm)을 함께 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShelterPayloadParserBenchmark {
+
+    @Param({ "100", "1000" })
+    int items;
+
+    private String body;
+    private byte[] bytes;
+    private ShelterPayloadParser parser;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":{\"item\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) sb.append(',');
+            String org = i % 10 == 0 ? "서울특별시 강남구" : "경기도 수원시";
+            sb.append("{\"careNm\":\"행복동물보호센터").append(i).append("\",")
+                    .append("\"careRegNo\":\"3110000").append(String.format("%05d", i)).append("\",")
+                    .append("\"orgNm\":\"").append(org).append("\",")
+                    .append("\"divisionNm\":\"법인\",\"saveTrgtAnimal\":\"개+고양이\",")
+                    .append("\"careAddr\":\"").append(org).append(" 중앙로 ").append(i).append("\",")
+                    .append("\"jibunAddr\":\"").append(org).append(" 중앙동 ").append(i).append("\",")
+                    .append("\"lat\":\"").append(37 + i % 100 / 100.0).append("\",")
+                    .append("\"lng\":\"").append(127 + i % 100 / 100.0).append("\",")
+                    .append("\"dsignationDate\":\"2020-01-01\",")
+                    .append("\"weekOprStime\":\"09:00\",\"weekOprEtime\":\"18:00\",")
+                    .append("\"weekendOprStime\":\"10:00\",\"weekendOprEtime\":\"17:00\",")
+                    .append("\"closeDay\":\"월요일\",\"vetPersonCnt\":\"2\",\"specsPersonCnt\":\"5\",")
+                    .append("\"medicalCnt\":\"1\",\"breedCnt\":\"3\",\"quarabtineCnt\":\"1\",\"feedCnt\":\"4\",")
+                    .append("\"transCarCnt\":\"1\",\"careTel\":\"031-000-0000\",\"dataStdDt\":\"2024-06-01\"}");
+        }
+        sb.append("]},\"numOfRows\":").append(items).append(",\"pageNo\":1,\"totalCount\":").append(items).append("}}}");
+        body = sb.toString();
+        bytes = body.getBytes(StandardCharsets.UTF_8);
+        parser = new ShelterPayloadParser(new ObjectMapper());
+    }
+
+    @Benchmark
+    public List<ShelterResponseDto.Item> legacyBindAll() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.readValue(body, ShelterApiResponseWrapper.class).getResponse().getBody().getItems().getItem();
+    }
+
+    @Benchmark
+    public List<ShelterResponseDto.Item> legacyBindFiltered() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<ShelterResponseDto.Item> all =
+                mapper.readValue(body, ShelterApiResponseWrapper.class).getResponse().getBody().getItems().getItem();
+        return all.stream()
+                .filter(i -> i.getOrgNm() != null && i.getOrgNm().contains("강남구"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ShelterPage parserAll() {
+        return parser.parse(body);
+    }
+
+    @Benchmark
+    public ShelterPage parserFiltered() {
+        return parser.parse(body, ShelterMatcher.of("강남구", null));
+    }
+
+    @Benchmark
+    public ShelterPage parserStream() {
+        return parser.parse(new ByteArrayInputStream(bytes));
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -26,7 +28,24 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // stub 프로필 전용: 공공API 스텁(/stub/**)만 공개, 그 외 프로필에서는 이 체인이 없어 기본 체인(인증 필요)으로 처리
     @Bean
+    @Order(0)
+    @Profile("stub")
+    public SecurityFilterChain stubFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/stub/**")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.GET, "/stub/**").permitAll()
+                .anyRequest().denyAll()
+            );
+        return http.build();
+    }
+
+    @Bean
+    @Order(1)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
@@ -49,6 +68,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/notices/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/dog-details/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/shelters", "/api/shelters/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/map/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/lost-pet", "/api/lost-pet/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/lost-pet/images/**").permitAll()
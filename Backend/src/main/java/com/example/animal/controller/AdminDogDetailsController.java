@@ -0,0 +1,68 @@
+package com.example.animal.controller;
+
+import com.example.animal.dto.ArchiveReportDto;
+import com.example.animal.dto.DedupReportDto;
+import com.example.animal.dto.IngestReportDto;
+import com.example.animal.dto.PartitionReportDto;
+import com.example.animal.dto.SimilarityReportDto;
+import com.example.animal.dto.SyncReportDto;
+import com.example.animal.service.archive.DogDetailsArchiveService;
+import com.example.animal.service.archive.DogDetailsPartitionMaintainer;
+import com.example.animal.service.dedup.DogDedupService;
+import com.example.animal.service.ingest.DogDetailsBulkLoader;
+import com.example.animal.service.similar.DogSimilarityService;
+import com.example.animal.service.ingest.DogDetailsSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/dog-details")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminDogDetailsController {
+
+    private final DogDetailsBulkLoader bulkLoader;
+    private final DogDetailsSyncService syncService;
+    private final DogDedupService dedupService;
+    private final DogDetailsArchiveService archiveService;
+    private final DogDetailsPartitionMaintainer partitionMaintainer;
+    private final DogSimilarityService similarityService;
+
+    /** 구조동물 API 전체 재적재 (건수, 소요시간, rows/sec 반환) */
+    @PostMapping("/reload")
+    public ResponseEntity<IngestReportDto> reload() {
+        return ResponseEntity.ok(bulkLoader.reloadAll());
+    }
+
+    /** 워터마크 이후 변경분 즉시 동기화 (스케줄과 동일 로직) */
+    @PostMapping("/sync")
+    public ResponseEntity<SyncReportDto> sync() {
+        return ResponseEntity.ok(syncService.sync());
+    }
+
+    /** 중복 공고(동일 개체) 클러스터 재계산 (스케줄과 동일 로직) */
+    @PostMapping("/dedup")
+    public ResponseEntity<DedupReportDto> dedup() {
+        return ResponseEntity.ok(dedupService.run());
+    }
+
+    /** 오래된 종료 공고를 보관 테이블로 이동 (스케줄과 동일 로직) */
+    @PostMapping("/archive")
+    public ResponseEntity<ArchiveReportDto> archive() {
+        return ResponseEntity.ok(archiveService.archive());
+    }
+
+    /** 월 파티션 추가 (p_future 분할, 스케줄과 동일 로직, 파티션 미적용 테이블이면 partitioned=false) */
+    @PostMapping("/partitions")
+    public ResponseEntity<PartitionReportDto> maintainPartitions() {
+        return ResponseEntity.ok(partitionMaintainer.maintain());
+    }
+
+    /** 비슷한 유기견 목록 갱신 (full=false: 신규 행 중심 증분, true: 전체 재계산) */
+    @PostMapping("/similarity")
+    public ResponseEntity<SimilarityReportDto> refreshSimilarity(@RequestParam(defaultValue = "false") boolean full) {
+        return ResponseEntity.ok(similarityService.refresh(full));
+    }
+}
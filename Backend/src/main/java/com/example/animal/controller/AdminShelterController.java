@@ -0,0 +1,23 @@
+package com.example.animal.controller;
+
+import com.example.animal.dto.ShelterSnapshotReportDto;
+import com.example.animal.service.shelter.ShelterSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/shelters")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminShelterController {
+
+    private final ShelterSnapshotService snapshotService;
+
+    /** 보호소 전체 스냅샷 즉시 갱신 (스케줄과 동일 로직) */
+    @PostMapping("/snapshot")
+    public ResponseEntity<ShelterSnapshotReportDto> refreshSnapshot() {
+        return ResponseEntity.ok(snapshotService.refresh());
+    }
+}
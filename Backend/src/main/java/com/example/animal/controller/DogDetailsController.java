@@ -1,16 +1,29 @@
 package com.example.animal.controller;
 
 import com.example.animal.dto.DogDetailsDto;
+import com.example.animal.dto.DogDetailsSearchRequestDto;
+import com.example.animal.dto.DogDetailsSummaryDto;
+import com.example.animal.dto.NearbyDogDto;
+import com.example.animal.dto.SimilarDogDetailsDto;
 import com.example.animal.service.DogDetailsService;
+import com.example.animal.service.cache.CachedDogDetails;
+import com.example.animal.service.search.DogTermField;
+import com.example.animal.service.search.TermDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.ByteArrayOutputStream;
 import java.util.*;
 
 @RestController
@@ -18,6 +31,12 @@ import java.util.*;
 @RequiredArgsConstructor
 public class DogDetailsController {
 
+    private static final double MAX_NEARBY_RADIUS_KM = 100;
+    private static final int MAX_NEARBY_LIMIT = 200;
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    private static final int MAX_SIMILAR_LIMIT = 50;
+    private static final int MAX_BATCH_IDS = 100;
+
     private final DogDetailsService dogdetailsService;
 
     /** 전체 데이터 반환(페이징 없이 모두) */
@@ -26,28 +45,128 @@ public class DogDetailsController {
         return dogdetailsService.getAllDogDetails();
     }
 
-    /** 페이징 + (옵션) 필터: jurisd/species/keyword */
+    /**
+     * 페이징 + (옵션) 필터: jurisd/species/location/keyword/color/ageMin/ageMax/foundFrom/foundTo
+     * jurisd/species/location 은 초성("ㅈㄷㄱ")·입력 중인 글자("진ㄷ")도 일치
+     * color=흰색%26갈색 (URL 인코딩된 "흰색&갈색") / white,brown 등: 지정한 색을 모두 포함하는 개체
+     * ageMin/ageMax: 나이(세) 범위, foundFrom/foundTo: 발견일 범위 (YYYY-MM-DD)
+     * collapse=true: 중복 공고는 대표 1건만, includeArchived=true: 보관된 종료 공고 포함
+     * fields=id,species,imagePath,foundDate 지정 시 해당 컬럼만 조회/응답 (id, foundDate 는 정렬 키라 항상 조회)
+     * shelterId: 보호소 등록번호, withShelter=true: 각 항목에 보호소 요약(shelter) 포함 (fields 와 함께 쓰면 400)
+     */
     @GetMapping("/paged")
     public ResponseEntity<Map<String, Object>> getDogDetailsPaged(
-            @RequestParam(required = false) String jurisd,
-            @RequestParam(required = false) String species,
-            @RequestParam(required = false) String keyword,
+            @ModelAttribute DogDetailsSearchRequestDto search,
+            @RequestParam(required = false) Set<String> fields,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withShelter,
             HttpServletRequest request) {
 
+        if (fields != null && !fields.isEmpty()) {
+            if (withShelter) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "withShelter 는 fields 와 함께 사용할 수 없습니다.");
+            }
+            if (!DogDetailsSummaryDto.FIELDS.containsAll(fields)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "지원하지 않는 fields 값입니다. 허용: " + DogDetailsSummaryDto.FIELDS);
+            }
+            Page<DogDetailsSummaryDto> summaries =
+                    dogdetailsService.searchDogSummariesPaged(search, fields, page, size);
+            return toPagedResponse(summaries, request, page, size);
+        }
+
         Page<DogDetailsDto> pageResult =
-                dogdetailsService.searchDogsPaged(jurisd, species, keyword, page, size);
+                dogdetailsService.searchDogsPaged(search, page, size);
+        if (withShelter) {
+            return toPagedResponse(pageResult.map(dogdetailsService::withShelter), request, page, size);
+        }
 
         return toPagedResponse(pageResult, request, page, size);
     }
 
-    /** 단건 조회 */
+    /**
+     * 여러 건 조회: ids=1,2,3 (최대 100개), 요청 순서대로 반환, 없는 id 는 제외.
+     * 캐시에 있는 직렬화 결과를 그대로 이어 붙여 응답
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<byte[]> getDogDetailsBatch(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "ids 는 1개 이상 " + MAX_BATCH_IDS + "개 이하여야 합니다.");
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        boolean first = true;
+        for (CachedDogDetails dog : dogdetailsService.getCachedDogDetailsBatch(ids)) {
+            if (!first) out.write(',');
+            out.writeBytes(dog.json());
+            first = false;
+        }
+        out.write(']');
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out.toByteArray());
+    }
+
+    /**
+     * 단건 조회 (ETag / If-None-Match → 304)
+     * withShelter=true: 보호소 요약(shelter) 포함, ETag 는 보호소 요약까지 포함한 응답 기준
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<DogDetailsDto> getDogDetailsById(@PathVariable Long id) {
-        return dogdetailsService.getDogDetailsById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<?> getDogDetailsById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean withShelter,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        Optional<CachedDogDetails> cached = dogdetailsService.getCachedDogDetails(id);
+        if (cached.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        CachedDogDetails dog = withShelter ? dogdetailsService.withShelter(cached.get()) : cached.get();
+        if (etagMatches(ifNoneMatch, dog.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(dog.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(dog.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(dog.json());
+    }
+
+    /** 비슷한 유기견: 사전 계산된 상위 목록 (유사도 높은 순) */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarDogDetailsDto>> getSimilarDogs(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_SIMILAR_LIMIT);
+        return ResponseEntity.ok(dogdetailsService.getSimilarDogs(id, safeLimit));
+    }
+
+    /** 주변 발견 유기견: 반경(km) 내, 가까운 순 */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyDogDto>> getNearbyDogs(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "좌표 범위가 올바르지 않습니다.");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "radiusKm 은 0 초과 " + MAX_NEARBY_RADIUS_KM + " 이하여야 합니다.");
+        }
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_NEARBY_LIMIT);
+        return ResponseEntity.ok(dogdetailsService.findNearby(lat, lng, radiusKm, safeLimit));
     }
 
     /** 품종 목록 */
@@ -56,6 +175,33 @@ public class DogDetailsController {
         return ResponseEntity.ok(dogdetailsService.getAllBreeds());
     }
 
+    /** 자동완성: field=species|jurisd|foundLocation, q=접두어/초성 (빈도순) */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TermDictionary.Suggestion>> suggest(
+            @RequestParam String field,
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        DogTermField termField = DogTermField.from(field);
+        if (termField == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "field 는 species, jurisd, foundLocation 중 하나여야 합니다.");
+        }
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_SUGGEST_LIMIT);
+        return ResponseEntity.ok(dogdetailsService.suggest(termField, q, safeLimit));
+    }
+
+    // If-None-Match: "*" 또는 콤마 구분 목록 (W/ 접두어는 약한 비교로 허용)
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
     // ===== 공통: Page -> 표준 응답(Map) 변환 =====
     private <T> ResponseEntity<Map<String, Object>> toPagedResponse(
             Page<T> pageResult, HttpServletRequest request, int page, int size) {
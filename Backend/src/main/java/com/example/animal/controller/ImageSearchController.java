@@ -14,18 +14,23 @@ public class ImageSearchController {
 
     private final ImageSearchService imageSearchService;
 
-    // 기능 1: 유사 유기견 검색만
+    // 기능 1: 유사 유기견 검색만 (color 지정 시 같은 AI 순위 안에서 색상 일치 개체 우선, collapse=true 면 중복 공고 1건만)
     @PostMapping("/image")
     public ResponseEntity<SimilarDogResponseDto> searchSimilarDogs(
-            @RequestParam("image") MultipartFile image
+            @RequestParam("image") MultipartFile image,
+            @RequestParam(value = "color", required = false) String color,
+            @RequestParam(value = "collapse", defaultValue = "false") boolean collapse
     ) {
-        return ResponseEntity.ok(imageSearchService.searchSimilarDogsOnly(image));
+        return ResponseEntity.ok(imageSearchService.searchSimilarDogsOnly(image, color, collapse));
     }
 
     // 기능 2: 유사 유기견 + 성견 예측 이미지 생성
     @PostMapping("/generated")
-    public ResponseEntity<SimilarDogResponseDto> searchWithGeneratedImage(@RequestParam("image") MultipartFile image) {
-        return ResponseEntity.ok(imageSearchService.searchSimilarDogsWithGeneratedImage(image));
+    public ResponseEntity<SimilarDogResponseDto> searchWithGeneratedImage(
+            @RequestParam("image") MultipartFile image,
+            @RequestParam(value = "color", required = false) String color,
+            @RequestParam(value = "collapse", defaultValue = "false") boolean collapse) {
+        return ResponseEntity.ok(imageSearchService.searchSimilarDogsWithGeneratedImage(image, color, collapse));
     }
 }
 
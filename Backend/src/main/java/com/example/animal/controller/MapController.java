@@ -0,0 +1,39 @@
+package com.example.animal.controller;
+
+import com.example.animal.dto.MapClustersDto;
+import com.example.animal.service.MapClusterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/map")
+@RequiredArgsConstructor
+public class MapController {
+
+    private final MapClusterService mapClusterService;
+
+    // 지도 영역 클러스터 (보호소 + 유기견)
+    // bbox=minLng,minLat,maxLng,maxLat (GeoJSON 순서), zoom: 지도 줌 레벨 → geohash 자리수
+    @GetMapping("/clusters")
+    public ResponseEntity<MapClustersDto> getClusters(
+            @RequestParam List<Double> bbox,
+            @RequestParam(defaultValue = "10") int zoom) {
+
+        if (bbox.size() != 4 || bbox.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bbox 는 minLng,minLat,maxLng,maxLat 4개 값이어야 합니다.");
+        }
+        double minLng = bbox.get(0), minLat = bbox.get(1), maxLng = bbox.get(2), maxLat = bbox.get(3);
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180 || minLat > maxLat || minLng > maxLng) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bbox 좌표 범위가 올바르지 않습니다.");
+        }
+        return ResponseEntity.ok(mapClusterService.clusters(minLat, minLng, maxLat, maxLng, zoom));
+    }
+}
@@ -1,39 +1,124 @@
 package com.example.animal.controller;
 
+import com.example.animal.dto.DogDetailsDto;
+import com.example.animal.dto.NearbyShelterDto;
+import com.example.animal.service.DogDetailsService;
 import com.example.animal.service.ShelterProxyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/shelters")
 @RequiredArgsConstructor
 public class ShelterProxyController {
 
+    private static final int MAX_NEARBY_K = 100;
+    private static final int MAX_SHELTER_DOGS_SIZE = 100;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final ShelterProxyService shelterProxyService;
+    private final DogDetailsService dogDetailsService;
 
-    // 단일 엔드포인트
+    // 단일 엔드포인트: 전체 스냅샷에서 orgNm/search 필터 후 페이징
+    // openAt(yyyy-MM-ddTHH:mm) / openNow=true: 항목마다 해당 시각(한국 시간) 운영 여부(open)·다음 운영 시작(nextOpenAt),
+    //   운영시간을 해석할 수 없는 보호소는 hoursKnown=false 로 함께 응답
+    // openOnly=true: 해당 시각(없으면 현재) 운영 중인 보호소만
+    // (스냅샷 적재 전 공공API 호출은 비동기 처리 → 대기 중 Tomcat 스레드 반환)
     @GetMapping
-    public ResponseEntity<?> getShelters(
+    public CompletableFuture<ResponseEntity<?>> getShelters(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String orgNm,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(defaultValue = "false") boolean openOnly) {
+
+        return shelterProxyService.getShelters(page, size, orgNm, search, resolveOpenAt(openAt, openNow || openOnly), openOnly);
+    }
+
+    // 가까운 보호소 k 곳 (거리 km 포함, 가까운 순)
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyShelterDto>> getNearbyShelters(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") int k) {
 
-        // 현재 서비스 시그니처는 (int, int) 만 지원 → 해당 메서드로 고정 호출
-        return shelterProxyService.getShelterData(page, size);
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "좌표 범위가 올바르지 않습니다.");
+        }
+        int safeK = Math.min(Math.max(k, 1), MAX_NEARBY_K);
+        return ResponseEntity.ok(shelterProxyService.findNearby(lat, lng, safeK));
+    }
+
+    // 보호소 요약 + 해당 보호소 유기견 목록 (발견일 최신순, page 는 다른 /api/shelters 와 같이 1부터) 한 번에 응답
+    // 보호소 요약은 스냅샷 기준이라 적재 전/미등록이면 shelter 는 null
+    @GetMapping("/{id}/dogs")
+    public ResponseEntity<Map<String, Object>> getShelterDogs(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        if (id.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "보호소 id 가 비어 있습니다.");
+        }
+        int safeSize = Math.min(Math.max(size, 1), MAX_SHELTER_DOGS_SIZE);
+        Page<DogDetailsDto> dogs = dogDetailsService.getDogsByShelter(id, Math.max(page, 1) - 1, safeSize);
+
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("itemPerPage", dogs.getSize());
+        meta.put("totalItems", dogs.getTotalElements());
+        meta.put("currentPage", dogs.getNumber() + 1); // 1-based
+        meta.put("totalPages", dogs.getTotalPages());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("shelter", dogDetailsService.findShelterSummary(id));
+        response.put("data", dogs.getContent());
+        response.put("pagination", Map.of("currentPage", dogs.getNumber() + 1, "meta", meta));
+        return ResponseEntity.ok(response);
+    }
+
+    // 공공API 원본 페이지 그대로 전달 (필터 없음, 스트리밍 pass-through)
+    @GetMapping("/raw")
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getSheltersRaw(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        boolean acceptGzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        return shelterProxyService.streamShelterData(page, size, acceptGzip);
     }
 
     // 선택: 필터 전용 경로를 유지하고 싶다면 동일 메서드로 연결
     @GetMapping("/filtered")
-    public ResponseEntity<?> getSheltersFiltered(
+    public CompletableFuture<ResponseEntity<?>> getSheltersFiltered(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String orgNm,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(defaultValue = "false") boolean openOnly) {
 
-        // 현재 서비스는 (int, int)만 지원 → 동일 호출
-        return shelterProxyService.getShelterData(page, size);
+        return shelterProxyService.getShelters(page, size, orgNm, search, resolveOpenAt(openAt, openNow || openOnly), openOnly);
     }
-}
 
+    private static LocalDateTime resolveOpenAt(LocalDateTime openAt, boolean openNow) {
+        if (openAt != null) return openAt;
+        return openNow ? LocalDateTime.now(KST) : null;
+    }
+}
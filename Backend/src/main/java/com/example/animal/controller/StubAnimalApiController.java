@@ -0,0 +1,88 @@
+package com.example.animal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 테스트용 구조동물 API 스텁 (stub 프로필 전용).
+ * classpath:stub/abandonment-public.json 을 조회 기간으로 거른 뒤 pageNo/numOfRows 로 잘라서 공공 API와 같은 형태로 응답.
+ * - bgupd/enupd(yyyyMMdd): 수정일(updTm) 기간, bgnde/endde: 발생일(happenDt) 기간 (양 끝 포함)
+ */
+@Profile("stub")
+@RestController
+@RequestMapping("/stub")
+public class StubAnimalApiController {
+
+    private final ObjectMapper objectMapper;
+    private final JsonNode items;
+
+    @Autowired
+    public StubAnimalApiController(ObjectMapper objectMapper) throws IOException {
+        this(objectMapper, load(objectMapper));
+    }
+
+    public StubAnimalApiController(ObjectMapper objectMapper, JsonNode items) {
+        this.objectMapper = objectMapper;
+        this.items = items;
+    }
+
+    private static JsonNode load(ObjectMapper objectMapper) throws IOException {
+        try (InputStream in = new ClassPathResource("stub/abandonment-public.json").getInputStream()) {
+            return objectMapper.readTree(in).path("items");
+        }
+    }
+
+    @GetMapping("/abandonmentPublic_v2")
+    public JsonNode abandonmentPublic(@RequestParam(defaultValue = "1") int pageNo,
+                                      @RequestParam(defaultValue = "10") int numOfRows,
+                                      @RequestParam(required = false) String bgupd,
+                                      @RequestParam(required = false) String enupd,
+                                      @RequestParam(required = false) String bgnde,
+                                      @RequestParam(required = false) String endde) {
+        List<JsonNode> matched = new ArrayList<>();
+        for (JsonNode item : items) {
+            if (inRange(item.path("updTm").asText(), bgupd, enupd)
+                    && inRange(item.path("happenDt").asText(), bgnde, endde)) {
+                matched.add(item);
+            }
+        }
+
+        ArrayNode page = objectMapper.createArrayNode();
+        int from = Math.max(pageNo - 1, 0) * numOfRows;
+        for (int i = from; i < Math.min(from + numOfRows, matched.size()); i++) {
+            page.add(matched.get(i));
+        }
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putObject("items").set("item", page);
+        body.put("numOfRows", numOfRows);
+        body.put("pageNo", pageNo);
+        body.put("totalCount", matched.size());
+
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode response = root.putObject("response");
+        response.putObject("header").put("resultCode", "00").put("resultMsg", "NORMAL SERVICE.");
+        response.set("body", body);
+        return root;
+    }
+
+    // 값의 앞 8자리 날짜(yyyyMMdd)가 [begin, end] 안인지. 조건이 없으면 통과, 조건이 있는데 날짜가 없으면 제외
+    private static boolean inRange(String value, String begin, String end) {
+        if (begin == null && end == null) return true;
+        String digits = value.replaceAll("\\D", "");
+        if (digits.length() < 8) return false;
+        String ymd = digits.substring(0, 8);
+        return (begin == null || ymd.compareTo(begin) >= 0) && (end == null || ymd.compareTo(end) <= 0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/** 종료 공고 보관 처리 1회 결과 */
+@Getter
+@AllArgsConstructor
+public class ArchiveReportDto {
+    private long archived;      // 보관 테이블로 옮긴 행 수
+    private long batches;
+    private LocalDate cutoff;   // 이 날짜 이전 발견 + 종료 상태만 대상
+    private long elapsedMs;
+}
@@ -0,0 +1,17 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 중복 개체 탐지 1회 결과 */
+@Getter
+@AllArgsConstructor
+public class DedupReportDto {
+    private long rows;             // 비교 대상 행 수
+    private long candidatePairs;   // LSH 버킷에서 나온 후보 쌍 (검증 전)
+    private long matchedPairs;     // 검증 통과 쌍
+    private long clusters;         // 2건 이상 묶인 클러스터 수
+    private long duplicates;       // 대표가 아닌 중복 행 수
+    private long updated;          // dup_cluster_id/dup_primary 가 바뀐 행 수
+    private long elapsedMs;
+}
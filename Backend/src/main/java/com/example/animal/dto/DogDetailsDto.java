@@ -28,6 +28,27 @@ public class DogDetailsDto {
     private String shelterId;
     private LocalDateTime createdAt;
 
+    // JPQL 생성자 표현식(select new ...)용: 엔티티 하이드레이션 없이 바로 DTO 생성
+    public DogDetailsDto(Long id, String number, String species, String gender, String age,
+                         String color, String neutYn, String jurisd, LocalDate foundDate,
+                         String foundLocation, String state, String imagePath, String shelterId,
+                         LocalDateTime createdAt) {
+        this.id = id;
+        this.number = number;
+        this.species = species;
+        this.gender = gender;
+        this.age = age;
+        this.color = color;
+        this.neutYn = neutYn;
+        this.jurisd = jurisd;
+        this.foundDate = foundDate;
+        this.foundLocation = foundLocation;
+        this.state = state;
+        this.imagePath = imagePath;
+        this.shelterId = shelterId;
+        this.createdAt = createdAt;
+    }
+
     public DogDetailsDto(DogDetails entity) {
         this.id = entity.getId();
         this.number = entity.getNumber();
@@ -0,0 +1,50 @@
+package com.example.animal.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 유기견 목록 검색 조건 (null 이면 해당 조건 미적용)
+ * - xxxIn: 용어 사전에서 미리 찾은 값 목록 → IN 조건 (빈 목록이면 결과 없음)
+ * - jurisd/species/location: 사전으로 좁힐 수 없을 때의 부분 일치 조건
+ */
+@Getter
+@Builder
+public class DogDetailsSearchCondition {
+
+    private String jurisd;   // 관할기관 (부분 일치)
+    private String species;  // 품종 (부분 일치)
+    private String location; // 발견장소 (부분 일치)
+    private String keyword;  // 공고번호/색상/상태/품종 (부분 일치)
+
+    private Collection<String> jurisdIn;
+    private Collection<String> speciesCanonicalIn; // 정규 품종 키
+    private Collection<String> locationIn;
+    private Collection<Integer> colorMaskIn;       // 색상 마스크 (ColorPalette.masksContaining)
+
+    private Integer birthYmFrom;   // 추정 출생 연월 yyyymm 범위 (포함)
+    private Integer birthYmTo;
+    private LocalDate foundFrom;   // 발견일 범위 (포함)
+    private LocalDate foundTo;
+
+    private String shelterId;      // 보호소 등록번호(careRegNo) 일치
+
+    private boolean collapseDuplicates;  // 중복 개체 클러스터는 대표 행만
+    private boolean includeArchived;     // 보관(종료) 공고 포함 여부
+
+    public static DogDetailsSearchCondition empty() {
+        return DogDetailsSearchCondition.builder().build();
+    }
+
+    /** IN 조건 중 하나라도 빈 목록이면 조회할 필요 없음 */
+    public boolean matchesNothing() {
+        return isEmpty(jurisdIn) || isEmpty(speciesCanonicalIn) || isEmpty(locationIn);
+    }
+
+    private static boolean isEmpty(Collection<String> values) {
+        return values != null && values.isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.animal.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/** 유기견 목록 검색 파라미터 (@ModelAttribute 바인딩용, 모두 선택) */
+@Getter @Setter
+@NoArgsConstructor
+public class DogDetailsSearchRequestDto {
+
+    // jurisd/species/location: 자모가 섞인 입력("진ㄷ")은 일치 값이 500개를 넘으면 빈도 상위 500개 값만 검색
+    private String jurisd;    // 관할기관 (초성/자모 일치 포함)
+    private String species;   // 품종 (별칭/오타 허용)
+    private String location;  // 발견장소
+    private String keyword;   // 공고번호/색상/상태/품종
+    private String color;     // 색상 (지정한 색을 모두 포함)
+    private String shelterId; // 보호소 등록번호(careRegNo)
+
+    private Integer ageMin;   // 나이 하한 (세, 포함)
+    private Integer ageMax;   // 나이 상한 (세, 포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) // "YYYY-MM-DD"
+    private LocalDate foundFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate foundTo;
+
+    private boolean collapse;  // true: 보호소 이동 등 중복 공고는 대표(최신 발견) 1건만
+    private boolean includeArchived;  // true: 보관된 종료 공고까지 포함
+}
@@ -0,0 +1,43 @@
+package com.example.animal.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 목록 화면용 축약 DTO (fields= 파라미터로 선택).
+ * 요청하지 않은 필드는 null 로 비워 직렬화에서 제외한다.
+ */
+@Getter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DogDetailsSummaryDto {
+
+    /** fields= 로 요청 가능한 필드 */
+    public static final Set<String> FIELDS = Set.of("id", "species", "imagePath", "foundDate");
+
+    private Long id;
+    private String species;
+    private String imagePath;
+    private LocalDate foundDate;
+
+    // JPQL 생성자 표현식(select new ...)용
+    public DogDetailsSummaryDto(Long id, String species, String imagePath, LocalDate foundDate) {
+        this.id = id;
+        this.species = species;
+        this.imagePath = imagePath;
+        this.foundDate = foundDate;
+    }
+
+    /** 요청된 필드만 남긴다 */
+    public DogDetailsSummaryDto retain(Set<String> fields) {
+        if (!fields.contains("id")) this.id = null;
+        if (!fields.contains("species")) this.species = null;
+        if (!fields.contains("imagePath")) this.imagePath = null;
+        if (!fields.contains("foundDate")) this.foundDate = null;
+        return this;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.animal.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 유기견 정보 + 보호소 요약 (withShelter=true 조회, 보호소를 못 찾으면 shelter 는 null) */
+@Getter
+@AllArgsConstructor
+public class DogWithShelterDto {
+
+    @JsonUnwrapped
+    private DogDetailsDto dog;
+
+    private ShelterSummaryDto shelter;
+}
@@ -0,0 +1,16 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 대량 적재 결과 */
+@Getter
+@AllArgsConstructor
+public class IngestReportDto {
+    private long fetched;            // API에서 받은 건수
+    private long inserted;           // 신규
+    private long updated;            // 기존 갱신
+    private long skippedDuplicates;  // 같은 실행 내 중복 공고번호
+    private long elapsedMs;
+    private double rowsPerSec;
+}
@@ -0,0 +1,17 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** 지도 클러스터: geohash 셀 하나의 개수 + 무게중심 + 대표 id (최대 몇 개) */
+@Getter
+@AllArgsConstructor
+public class MapClusterDto<K> {
+    private String geohash;
+    private int count;
+    private double lat;   // 셀 안 좌표들의 평균
+    private double lng;
+    private List<K> ids;  // 대표 id (큰 값 우선: 유기견은 최신 등록 순)
+}
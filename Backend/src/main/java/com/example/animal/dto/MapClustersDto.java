@@ -0,0 +1,15 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** 지도 영역 클러스터 응답 (precision: 사용한 geohash 자리수) */
+@Getter
+@AllArgsConstructor
+public class MapClustersDto {
+    private int precision;
+    private List<MapClusterDto<String>> shelters;  // 대표 id = careRegNo
+    private List<MapClusterDto<Long>> dogs;        // 대표 id = dog_details.id
+}
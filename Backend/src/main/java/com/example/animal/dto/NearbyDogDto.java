@@ -0,0 +1,16 @@
+package com.example.animal.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 주변 유기견 검색 결과: 유기견 정보 + 기준점과의 거리(km) */
+@Getter
+@AllArgsConstructor
+public class NearbyDogDto {
+
+    @JsonUnwrapped
+    private DogDetailsDto dog;
+
+    private double distanceKm;
+}
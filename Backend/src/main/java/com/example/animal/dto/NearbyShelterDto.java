@@ -0,0 +1,16 @@
+package com.example.animal.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 주변 보호소 검색 결과: 보호소 정보 + 기준점과의 거리(km) */
+@Getter
+@AllArgsConstructor
+public class NearbyShelterDto {
+
+    @JsonUnwrapped
+    private ShelterResponseDto.Item shelter;
+
+    private double distanceKm;
+}
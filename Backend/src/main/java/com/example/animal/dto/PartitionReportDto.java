@@ -0,0 +1,15 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** dog_details 월 파티션 유지 작업 1회 결과 */
+@Getter
+@AllArgsConstructor
+public class PartitionReportDto {
+    private boolean partitioned;  // false: 파티션 스크립트 미적용 (아무 작업 안 함)
+    private List<String> added;   // p_future 에서 분할해 새로 만든 월 파티션
+    private long elapsedMs;
+}
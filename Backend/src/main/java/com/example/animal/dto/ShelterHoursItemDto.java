@@ -0,0 +1,33 @@
+package com.example.animal.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.BeanUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * openAt/openNow 조회 시 보호소 항목 + 기준 시각 운영 여부/다음 운영 시작 시각.
+ * 운영시간을 알 수 없는 보호소는 hoursKnown=false, open/nextOpenAt=null
+ */
+@Getter
+@Setter
+public class ShelterHoursItemDto extends ShelterResponseDto.Item {
+
+    private boolean hoursKnown;           // 운영시간 정보를 해석했는지
+    private Boolean open;                 // 기준 시각에 운영 중인지 (모르면 null)
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime nextOpenAt;     // 운영 중이 아니면 다음 운영 시작 시각
+
+    public static ShelterHoursItemDto of(ShelterResponseDto.Item item, boolean hoursKnown, Boolean open,
+                                         LocalDateTime nextOpenAt) {
+        ShelterHoursItemDto dto = new ShelterHoursItemDto();
+        BeanUtils.copyProperties(item, dto);
+        dto.setHoursKnown(hoursKnown);
+        dto.setOpen(open);
+        dto.setNextOpenAt(nextOpenAt);
+        return dto;
+    }
+}
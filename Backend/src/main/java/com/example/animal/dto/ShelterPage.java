@@ -0,0 +1,7 @@
+package com.example.animal.dto;
+
+import java.util.List;
+
+/** 보호소 API 한 페이지 (items + 전체 건수) */
+public record ShelterPage(List<ShelterResponseDto.Item> items, int totalCount) {
+}
@@ -30,6 +30,7 @@ public class ShelterResponseDto {
         private List<Item> item;
     }
 
+    /** 보호소 항목 (좌표/인원·시설 수는 파싱 시 한 번만 숫자로 변환, 값이 없거나 숫자가 아니면 null) */
     @Data
     public static class Item {
         private String dataStdDt;
@@ -40,8 +41,8 @@ public class ShelterResponseDto {
         private String saveTrgtAnimal;
         private String careAddr;
         private String jibunAddr;
-        private String lat;
-        private String lng;
+        private Double lat;             // 위도 (비어 있거나 0/범위 밖이면 null)
+        private Double lng;             // 경도
         private String dsignationDate;
         private String weekOprStime;
         private String weekOprEtime;
@@ -52,13 +53,13 @@ public class ShelterResponseDto {
         private String weekendCellStime;
         private String weekendCellEtime;
         private String closeDay;
-        private String vetPersonCnt;
-        private String specsPersonCnt;
-        private String medicalCnt;
-        private String breedCnt;
-        private String quarabtineCnt;
-        private String feedCnt;
-        private String transCarCnt;
+        private Integer vetPersonCnt;
+        private Integer specsPersonCnt;
+        private Integer medicalCnt;
+        private Integer breedCnt;
+        private Integer quarabtineCnt;
+        private Integer feedCnt;
+        private Integer transCarCnt;
         private String careTel;
     }
 }
@@ -0,0 +1,13 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 보호소 전체 스냅샷 갱신 1회 결과 */
+@Getter
+@AllArgsConstructor
+public class ShelterSnapshotReportDto {
+    private long shelters;        // 스냅샷에 담긴 보호소 수
+    private int pages;            // 호출한 페이지 수
+    private long elapsedMs;
+}
@@ -0,0 +1,16 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 유기견 응답에 붙이는 보호소 요약 (보호소 스냅샷에서 조회) */
+@Getter
+@AllArgsConstructor
+public class ShelterSummaryDto {
+    private String careRegNo;
+    private String name;      // careNm
+    private String phone;     // careTel
+    private String address;   // careAddr (없으면 지번 주소)
+    private Double lat;
+    private Double lng;
+}
@@ -0,0 +1,29 @@
+package com.example.animal.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 비슷한 유기견: 유기견 정보 + 유사도 점수(0~1) */
+@Getter
+@AllArgsConstructor
+public class SimilarDogDetailsDto {
+
+    @JsonUnwrapped
+    private DogDetailsDto dog;
+
+    private double score;
+
+    // JPQL 생성자 표현식(select new ...)용: 유사도 테이블 + dog_details 조인 결과
+    public SimilarDogDetailsDto(Float score, Long id, String number, String species, String gender, String age,
+                                String color, String neutYn, String jurisd, LocalDate foundDate,
+                                String foundLocation, String state, String imagePath, String shelterId,
+                                LocalDateTime createdAt) {
+        this.dog = new DogDetailsDto(id, number, species, gender, age, color, neutYn, jurisd, foundDate,
+                foundLocation, state, imagePath, shelterId, createdAt);
+        this.score = Math.round(score * 1000) / 1000.0;
+    }
+}
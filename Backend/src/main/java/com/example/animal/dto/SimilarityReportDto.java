@@ -0,0 +1,15 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 유사 개체 목록 갱신 1회 결과 */
+@Getter
+@AllArgsConstructor
+public class SimilarityReportDto {
+    private boolean full;         // true: 전체 재계산, false: 신규 행 중심 증분
+    private long rows;            // 메모리에 올린 비교 대상 행 수
+    private long newRows;         // 목록이 없던 행 (증분 대상)
+    private long updatedLists;    // 다시 쓴 목록 수
+    private long elapsedMs;
+}
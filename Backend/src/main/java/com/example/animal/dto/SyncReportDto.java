@@ -0,0 +1,18 @@
+package com.example.animal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/** 증분 동기화 1회 결과 */
+@Getter
+@AllArgsConstructor
+public class SyncReportDto {
+    private long fetched;           // API에서 받은 건수
+    private long applied;           // upsert 한 건수 (워터마크 이후 변경분)
+    private long inserted;
+    private long stateTransitions;  // 보호중 → 종료(입양) 등 상태 변경
+    private LocalDateTime watermark;
+    private long elapsedMs;
+}
@@ -0,0 +1,27 @@
+package com.example.animal.dto.openapi;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/** 공공데이터 구조동물 조회(abandonmentPublic_v2) 응답 item */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AnimalApiItemDto {
+    private String desertionNo;   // 유기번호
+    private String noticeNo;      // 공고번호
+    private String noticeSdt;     // 공고시작일 (yyyyMMdd)
+    private String happenDt;      // 접수일 (yyyyMMdd)
+    private String happenPlace;   // 발견장소
+    private String kindCd;        // (v1) "[개] 믹스견"
+    private String kindNm;        // (v2) "믹스견"
+    private String kindFullNm;    // (v2) "[개] 믹스견"
+    private String colorCd;
+    private String age;           // "2023(년생)"
+    private String sexCd;         // M/F/Q
+    private String neuterYn;      // Y/N/U
+    private String processState;  // 보호중, 종료(입양) ...
+    private String popfile1;      // 이미지 URL
+    private String careRegNo;     // 보호소 번호
+    private String orgNm;         // 관할기관
+    private String updTm;         // 수정일시
+}
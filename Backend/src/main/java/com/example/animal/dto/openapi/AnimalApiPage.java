@@ -0,0 +1,7 @@
+package com.example.animal.dto.openapi;
+
+import java.util.List;
+
+/** 구조동물 API 한 페이지 (items + 전체 건수) */
+public record AnimalApiPage(List<AnimalApiItemDto> items, int totalCount) {
+}
@@ -0,0 +1,7 @@
+package com.example.animal.dto.projection;
+
+public interface DogNumberStateProjection {
+    Long getId();
+    String getNumber();
+    String getState();
+}
@@ -7,7 +7,20 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "dog_details")
+@Table(name = "dog_details",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dog_details_number", columnNames = "number"),
+        indexes = {
+                @Index(name = "idx_dog_details_species", columnList = "species"),
+                @Index(name = "idx_dog_details_species_canonical", columnList = "species_canonical"),
+                @Index(name = "idx_dog_details_jurisd", columnList = "jurisd"),
+                @Index(name = "idx_dog_details_color_mask", columnList = "color_mask"),
+                @Index(name = "idx_dog_details_found_location", columnList = "found_location"),
+                @Index(name = "idx_dog_details_found_date_id", columnList = "found_date, id"),
+                @Index(name = "idx_dog_details_birth_ym_found_date", columnList = "birth_ym, found_date"),
+                @Index(name = "idx_dog_details_dup_cluster_id", columnList = "dup_cluster_id"),
+                @Index(name = "idx_dog_details_shelter_found_date_id", columnList = "shelter_id, found_date, id")
+        })
+@EntityListeners(DogDetailsEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,15 +38,24 @@ public class DogDetails {
     @Column(name = "species")
     private String species; // 품종
 
+    @Column(name = "species_canonical", length = 64)
+    private String speciesCanonical; // 정규 품종 키 (별칭 사전 기준, 적재 시 계산)
+
     @Column(name = "gender")
     private String gender; // 성별
 
     @Column(name = "age")
     private String age; // 나이
 
+    @Column(name = "birth_ym")
+    private Integer birthYm; // 추정 출생 연월 yyyymm (나이 문자열 파싱, 적재 시 계산)
+
     @Column(name = "color")
     private String color; // 색상
 
+    @Column(name = "color_mask")
+    private Integer colorMask; // 색상 팔레트 비트마스크 (ColorPalette, 적재 시 계산)
+
     @Column(name = "neut_YN")
     private String neutYn; // 중성화 여부
 
@@ -52,9 +74,30 @@ public class DogDetails {
     @Column(name = "image_path")
     private String imagePath; // 사진 경로
 
+    @Column(name = "lat")
+    private Double lat; // 발견장소 추정 위도 (행정구역 대표 좌표)
+
+    @Column(name = "lng")
+    private Double lng; // 발견장소 추정 경도
+
     @Column(name = "shelter_id")
     private String shelterId; // 보호소 FK
 
+    @Column(name = "dup_cluster_id")
+    private Long dupClusterId; // 중복 개체 클러스터 (클러스터 내 최소 id, 단독이면 null)
+
+    @Column(name = "dup_primary")
+    private Boolean dupPrimary; // 클러스터 대표 여부 (발견일 최신)
+
+    @Column(name = "similarity_computed_at", insertable = false, updatable = false)
+    private LocalDateTime similarityComputedAt; // 유사 개체 목록 계산 시각 (목록이 비어도 기록, DogSimilarityService 전용)
+
+    @Column(name = "geocode_failed_at", insertable = false, updatable = false)
+    private LocalDateTime geocodeFailedAt; // 좌표 보정 실패 시각 (기동 시 보정에서 제외, 발견장소가 바뀌면 비움)
+
+    @Column(name = "birth_ym_failed_at", insertable = false, updatable = false)
+    private LocalDateTime birthYmFailedAt; // 나이 파싱 실패 시각 (기동 시 보정에서 제외, 나이가 바뀌면 비움)
+
     @Column(name = "created_at")
     private LocalDateTime createdAt; // 등록일
 
@@ -0,0 +1,93 @@
+package com.example.animal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 종료(입양/안락사/반환 등)된 지 오래된 유기견 공고 보관 테이블.
+ * dog_details 와 같은 컬럼 + 보관 일시. id 는 원본 그대로 유지한다.
+ */
+@Entity
+@Table(name = "dog_details_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dog_details_archive_number", columnNames = "number"),
+        indexes = {
+                @Index(name = "idx_dog_details_archive_found_date_id", columnList = "found_date, id"),
+                @Index(name = "idx_dog_details_archive_species_canonical", columnList = "species_canonical"),
+                @Index(name = "idx_dog_details_archive_shelter_found_date_id", columnList = "shelter_id, found_date, id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DogDetailsArchive {
+
+    @Id
+    private Long id; // 원본 dog_details.id
+
+    @Column(name = "number")
+    private String number;
+
+    @Column(name = "species")
+    private String species;
+
+    @Column(name = "species_canonical", length = 64)
+    private String speciesCanonical;
+
+    @Column(name = "gender")
+    private String gender;
+
+    @Column(name = "age")
+    private String age;
+
+    @Column(name = "birth_ym")
+    private Integer birthYm;
+
+    @Column(name = "color")
+    private String color;
+
+    @Column(name = "color_mask")
+    private Integer colorMask;
+
+    @Column(name = "neut_YN")
+    private String neutYn;
+
+    @Column(name = "jurisd")
+    private String jurisd;
+
+    @Column(name = "found_date")
+    private LocalDate foundDate;
+
+    @Column(name = "found_location")
+    private String foundLocation;
+
+    @Column(name = "state")
+    private String state;
+
+    @Column(name = "image_path")
+    private String imagePath;
+
+    @Column(name = "lat")
+    private Double lat;
+
+    @Column(name = "lng")
+    private Double lng;
+
+    @Column(name = "shelter_id")
+    private String shelterId;
+
+    @Column(name = "dup_cluster_id")
+    private Long dupClusterId;
+
+    @Column(name = "dup_primary")
+    private Boolean dupPrimary;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt; // 보관 처리 일시
+}
@@ -0,0 +1,28 @@
+package com.example.animal.entity;
+
+import com.example.animal.event.DogDetailsChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** JPA 경유 dog_details 쓰기 → 변경 이벤트 발행 (Hibernate가 스프링 빈으로 생성) */
+@Component
+@RequiredArgsConstructor
+public class DogDetailsEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(DogDetails dog) {
+        if (dog.getId() != null) {
+            publisher.publishEvent(DogDetailsChangedEvent.of(List.of(dog.getId())));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.animal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 유기견별 유사 개체 상위 N 건 (사전 계산 인접 목록).
+ * PK (dog_id, rank_no) → 상세 화면 "비슷한 아이들"은 PK 범위 읽기 한 번.
+ */
+@Entity
+@Table(name = "dog_similarity")
+@IdClass(DogSimilarity.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DogSimilarity {
+
+    @Id
+    @Column(name = "dog_id")
+    private Long dogId;
+
+    @Id
+    @Column(name = "rank_no")
+    private Integer rank; // 1부터 (rank 는 MySQL 예약어라 컬럼명은 rank_no)
+
+    @Column(name = "similar_id", nullable = false)
+    private Long similarId;
+
+    @Column(name = "score", nullable = false)
+    private Float score; // 0~1 (속성 기반 유사도)
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long dogId;
+        private Integer rank;
+    }
+}
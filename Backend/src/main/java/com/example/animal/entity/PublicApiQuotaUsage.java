@@ -0,0 +1,45 @@
+package com.example.animal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 공공API 서비스키별 일일 호출 건수 (재시작/다중 인스턴스에서도 예산 유지).
+ * 서비스키 원문 대신 해시(key_id)로 저장, 갱신은 PublicApiQuotaUsageStore 가 증분 UPSERT.
+ */
+@Entity
+@Table(name = "public_api_quota_usage")
+@IdClass(PublicApiQuotaUsage.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublicApiQuotaUsage {
+
+    @Id
+    @Column(name = "key_id", length = 16)
+    private String keyId; // 서비스키 SHA-256 앞 16자리
+
+    @Id
+    @Column(name = "usage_date")
+    private LocalDate usageDate; // 한국 시간 기준
+
+    @Column(name = "used", nullable = false)
+    private Long used;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String keyId;
+        private LocalDate usageDate;
+    }
+}
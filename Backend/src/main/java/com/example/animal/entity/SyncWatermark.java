@@ -0,0 +1,28 @@
+package com.example.animal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 외부 데이터 소스별 증분 동기화 기준점 (high-water mark) */
+@Entity
+@Table(name = "sync_watermark")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class SyncWatermark {
+
+    @Id
+    @Column(name = "source", length = 50)
+    private String source; // 예: animal-api
+
+    @Column(name = "watermark")
+    private LocalDateTime watermark; // 마지막으로 반영한 수정일시(없으면 공고일)
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Column(name = "last_row_count")
+    private Integer lastRowCount;
+}
@@ -0,0 +1,24 @@
+package com.example.animal.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * dog_details 변경 알림.
+ * - ids 가 비어 있으면 "전체 변경"(대량 적재 등)으로 간주
+ * - 캐시/인메모리 인덱스가 이 이벤트를 받아 무효화/갱신
+ */
+public record DogDetailsChangedEvent(Set<Long> ids) {
+
+    public static DogDetailsChangedEvent of(Collection<Long> ids) {
+        return new DogDetailsChangedEvent(Set.copyOf(ids));
+    }
+
+    public static DogDetailsChangedEvent all() {
+        return new DogDetailsChangedEvent(Set.of());
+    }
+
+    public boolean isAll() {
+        return ids.isEmpty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.animal.repository;
+
+import com.example.animal.entity.DogDetailsArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DogDetailsArchiveRepository extends JpaRepository<DogDetailsArchive, Long> {
+
+    @Query("SELECT a.number FROM DogDetailsArchive a")
+    List<String> findAllNumbers();
+
+    @Query("SELECT a.number FROM DogDetailsArchive a WHERE a.number IN :numbers")
+    List<String> findNumbersByNumberIn(@Param("numbers") Collection<String> numbers);
+}
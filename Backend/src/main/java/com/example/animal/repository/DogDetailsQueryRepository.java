@@ -0,0 +1,34 @@
+package com.example.animal.repository;
+
+import com.example.animal.dto.DogDetailsDto;
+import com.example.animal.dto.DogDetailsSearchCondition;
+import com.example.animal.dto.DogDetailsSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 읽기 전용 목록 조회 (DTO 생성자 표현식).
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 하이드레이션/스냅샷 비용이 없다.
+ */
+public interface DogDetailsQueryRepository {
+
+    Page<DogDetailsDto> searchRows(DogDetailsSearchCondition condition, Pageable pageable);
+
+    /** fields 에 포함된 컬럼만 조회 (id, foundDate 는 정렬 키라 항상 조회, 응답에서는 fields 기준으로 제외) */
+    Page<DogDetailsSummaryDto> searchSummaries(DogDetailsSearchCondition condition, Set<String> fields,
+                                               Pageable pageable);
+
+    List<DogDetailsDto> findAllRows();
+
+    List<DogDetailsDto> findRowsByIdIn(Collection<Long> ids);
+
+    /** 보관(dog_details_archive)된 공고 단건 */
+    Optional<DogDetailsDto> findArchivedRowById(Long id);
+
+    List<DogDetailsDto> findArchivedRowsByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,274 @@
+package com.example.animal.repository;
+
+import com.example.animal.dto.DogDetailsDto;
+import com.example.animal.dto.DogDetailsSearchCondition;
+import com.example.animal.dto.DogDetailsSummaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public class DogDetailsQueryRepositoryImpl implements DogDetailsQueryRepository {
+
+    private static final String LIVE = "DogDetails";
+    private static final String ARCHIVE = "DogDetailsArchive";
+
+    static final String ROW_SELECT = """
+        SELECT new com.example.animal.dto.DogDetailsDto(
+            d.id, d.number, d.species, d.gender, d.age, d.color, d.neutYn, d.jurisd,
+            d.foundDate, d.foundLocation, d.state, d.imagePath, d.shelterId, d.createdAt)
+        """;
+
+    // 축약 조회 컬럼 (id, foundDate 는 정렬/병합 키라 항상 조회)
+    private static final List<String> SUMMARY_KEY_COLUMNS = List.of("id", "foundDate");
+    private static final List<String> SUMMARY_OPTIONAL_COLUMNS = List.of("species", "imagePath");
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<DogDetailsDto> searchRows(DogDetailsSearchCondition condition, Pageable pageable) {
+        return search(DogDetailsDto.class, ROW_SELECT, Function.identity(), condition, pageable);
+    }
+
+    @Override
+    public Page<DogDetailsSummaryDto> searchSummaries(DogDetailsSearchCondition condition, Set<String> fields,
+                                                      Pageable pageable) {
+        List<String> columns = new ArrayList<>(SUMMARY_KEY_COLUMNS);
+        for (String c : SUMMARY_OPTIONAL_COLUMNS) if (fields.contains(c)) columns.add(c);
+        String select = "SELECT " + String.join(", ", columns.stream().map(c -> "d." + c).toList());
+        return search(Object[].class, select, row -> toSummary(columns, row), condition, pageable);
+    }
+
+    // 조회하지 않은 컬럼은 null
+    private static DogDetailsSummaryDto toSummary(List<String> columns, Object[] row) {
+        int species = columns.indexOf("species");
+        int imagePath = columns.indexOf("imagePath");
+        return new DogDetailsSummaryDto(
+                (Long) row[0],
+                species < 0 ? null : (String) row[species],
+                imagePath < 0 ? null : (String) row[imagePath],
+                (LocalDate) row[1]);
+    }
+
+    @Override
+    public List<DogDetailsDto> findAllRows() {
+        return em.createQuery(ROW_SELECT + " FROM DogDetails d ORDER BY d.id", DogDetailsDto.class)
+                .getResultList();
+    }
+
+    @Override
+    public List<DogDetailsDto> findRowsByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return em.createQuery(ROW_SELECT + " FROM DogDetails d WHERE d.id IN :ids", DogDetailsDto.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<DogDetailsDto> findArchivedRowById(Long id) {
+        return em.createQuery(ROW_SELECT + " FROM DogDetailsArchive d WHERE d.id = :id", DogDetailsDto.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<DogDetailsDto> findArchivedRowsByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return em.createQuery(ROW_SELECT + " FROM DogDetailsArchive d WHERE d.id IN :ids", DogDetailsDto.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    private <R, T> Page<T> search(Class<R> type, String select, Function<R, T> mapper,
+                                  DogDetailsSearchCondition condition, Pageable pageable) {
+        if (condition.matchesNothing()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        Map<String, Object> params = new HashMap<>();
+        String where = buildWhere(condition, params);
+
+        if (condition.isIncludeArchived()) {
+            return searchWithArchive(type, select, mapper, where, params, pageable);
+        }
+
+        List<T> content = fetch(type, select, mapper, LIVE, where, params, pageable.getSort(),
+                Math.toIntExact(pageable.getOffset()), pageable.getPageSize());
+
+        // 첫 페이지가 덜 찼으면 count 쿼리 생략
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        return new PageImpl<>(content, pageable, count(LIVE, where, params));
+    }
+
+    /**
+     * 현재 + 보관 테이블 병합 페이징.
+     * 두 테이블에서 각각 정렬 순서대로 offset+size 건까지만 읽어 병합 후 해당 구간만 잘라낸다.
+     * (id 는 보관 시 그대로 유지되므로 두 테이블 사이에 겹치지 않음)
+     * offset+size 상한(병합 창)은 호출하는 쪽(DogDetailsService.listPageable)에서 제한한다.
+     */
+    private <R, T> Page<T> searchWithArchive(Class<R> type, String select, Function<R, T> mapper, String where,
+                                             Map<String, Object> params, Pageable pageable) {
+        int offset = Math.toIntExact(pageable.getOffset());
+        int limit = Math.addExact(offset, pageable.getPageSize());
+
+        List<T> merged = new ArrayList<>(fetch(type, select, mapper, LIVE, where, params, pageable.getSort(), 0, limit));
+        merged.addAll(fetch(type, select, mapper, ARCHIVE, where, params, pageable.getSort(), 0, limit));
+        merged = sorted(merged, pageable.getSort());
+
+        List<T> content = offset >= merged.size()
+                ? List.of()
+                : merged.subList(offset, Math.min(limit, merged.size()));
+        return new PageImpl<>(content, pageable, count(LIVE, where, params) + count(ARCHIVE, where, params));
+    }
+
+    private <R, T> List<T> fetch(Class<R> type, String select, Function<R, T> mapper, String entity, String where,
+                                 Map<String, Object> params, Sort sort, int first, int max) {
+        TypedQuery<R> query = em.createQuery(select + " FROM " + entity + " d" + where + orderBy(sort), type);
+        params.forEach(query::setParameter);
+        query.setFirstResult(first);
+        query.setMaxResults(max);
+        List<R> rows = query.getResultList();
+        List<T> out = new ArrayList<>(rows.size());
+        for (R row : rows) out.add(mapper.apply(row));
+        return out;
+    }
+
+    private long count(String entity, String where, Map<String, Object> params) {
+        TypedQuery<Long> count = em.createQuery("SELECT COUNT(d) FROM " + entity + " d" + where, Long.class);
+        params.forEach(count::setParameter);
+        return count.getSingleResult();
+    }
+
+    // orderBy 와 같은 순서 (MySQL: 오름차순 NULL 먼저, 내림차순 NULL 나중)
+    // 정렬 키는 행마다 한 번만 읽어 두고 비교 (비교마다 리플렉션 없음)
+    private static <T> List<T> sorted(List<T> rows, Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        List<Keyed<T>> keyed = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            BeanWrapperImpl bw = new BeanWrapperImpl(row);
+            Object[] keys = new Object[orders.size()];
+            for (int i = 0; i < keys.length; i++) keys[i] = bw.getPropertyValue(orders.get(i).getProperty());
+            keyed.add(new Keyed<>(keys, row));
+        }
+        keyed.sort((a, b) -> {
+            for (int i = 0; i < orders.size(); i++) {
+                int c = compareNullsFirst(a.keys()[i], b.keys()[i]);
+                if (c != 0) return orders.get(i).isAscending() ? c : -c;
+            }
+            return 0;
+        });
+        List<T> out = new ArrayList<>(keyed.size());
+        for (Keyed<T> k : keyed) out.add(k.row());
+        return out;
+    }
+
+    // 정렬 속성(foundDate, id 등)은 모두 Comparable
+    @SuppressWarnings("unchecked")
+    private static int compareNullsFirst(Object a, Object b) {
+        if (a == null || b == null) return a == null ? (b == null ? 0 : -1) : 1;
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    private record Keyed<T>(Object[] keys, T row) {}
+
+    // 값이 있는 조건만 WHERE 에 포함 (":p IS NULL OR ..." 형태를 피해 인덱스 사용 여지 확보)
+    private String buildWhere(DogDetailsSearchCondition c, Map<String, Object> params) {
+        StringBuilder sb = new StringBuilder();
+
+        if (c.getJurisdIn() != null) {
+            and(sb).append("d.jurisd IN :jurisdIn");
+            params.put("jurisdIn", c.getJurisdIn());
+        } else if (c.getJurisd() != null) {
+            and(sb).append("d.jurisd LIKE CONCAT('%', :jurisd, '%')");
+            params.put("jurisd", c.getJurisd());
+        }
+        if (c.getSpeciesCanonicalIn() != null) {
+            and(sb).append(c.getSpeciesCanonicalIn().size() == 1
+                    ? "d.speciesCanonical = :speciesCanonical"
+                    : "d.speciesCanonical IN :speciesCanonical");
+            params.put("speciesCanonical", c.getSpeciesCanonicalIn().size() == 1
+                    ? c.getSpeciesCanonicalIn().iterator().next()
+                    : c.getSpeciesCanonicalIn());
+        } else if (c.getSpecies() != null) {
+            and(sb).append("d.species LIKE CONCAT('%', :species, '%')");
+            params.put("species", c.getSpecies());
+        }
+        if (c.getLocationIn() != null) {
+            and(sb).append("d.foundLocation IN :locationIn");
+            params.put("locationIn", c.getLocationIn());
+        } else if (c.getLocation() != null) {
+            and(sb).append("d.foundLocation LIKE CONCAT('%', :location, '%')");
+            params.put("location", c.getLocation());
+        }
+        if (c.getColorMaskIn() != null) {
+            and(sb).append("d.colorMask IN :colorMasks");
+            params.put("colorMasks", c.getColorMaskIn());
+        }
+        if (c.getBirthYmFrom() != null) {
+            and(sb).append("d.birthYm >= :birthYmFrom");
+            params.put("birthYmFrom", c.getBirthYmFrom());
+        }
+        if (c.getBirthYmTo() != null) {
+            and(sb).append("d.birthYm <= :birthYmTo");
+            params.put("birthYmTo", c.getBirthYmTo());
+        }
+        if (c.getFoundFrom() != null) {
+            and(sb).append("d.foundDate >= :foundFrom");
+            params.put("foundFrom", c.getFoundFrom());
+        }
+        if (c.getFoundTo() != null) {
+            and(sb).append("d.foundDate <= :foundTo");
+            params.put("foundTo", c.getFoundTo());
+        }
+        if (c.getShelterId() != null) {
+            and(sb).append("d.shelterId = :shelterId");
+            params.put("shelterId", c.getShelterId());
+        }
+        if (c.isCollapseDuplicates()) {
+            and(sb).append("(d.dupClusterId IS NULL OR d.dupPrimary = TRUE)");
+        }
+        if (c.getKeyword() != null) {
+            and(sb).append("""
+                (d.number LIKE CONCAT('%', :keyword, '%')
+                 OR d.color LIKE CONCAT('%', :keyword, '%')
+                 OR d.state LIKE CONCAT('%', :keyword, '%')
+                 OR d.species LIKE CONCAT('%', :keyword, '%'))""");
+            params.put("keyword", c.getKeyword());
+        }
+
+        return sb.toString();
+    }
+
+    private StringBuilder and(StringBuilder sb) {
+        return sb.append(sb.isEmpty() ? " WHERE " : " AND ");
+    }
+
+    private String orderBy(Sort sort) {
+        if (sort.isUnsorted()) return "";
+        StringBuilder sb = new StringBuilder(" ORDER BY ");
+        boolean first = true;
+        for (Sort.Order o : sort) {
+            if (!first) sb.append(", ");
+            sb.append("d.").append(o.getProperty()).append(o.isAscending() ? " ASC" : " DESC");
+            first = false;
+        }
+        return sb.toString();
+    }
+}
@@ -1,46 +1,46 @@
 package com.example.animal.repository;
 
+import com.example.animal.dto.projection.DogNumberStateProjection;
 import com.example.animal.entity.DogDetails;
+import com.example.animal.service.geo.DogLocation;
+import com.example.animal.service.search.TermCount;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface DogDetailsRepository extends JpaRepository<DogDetails, Long> {
+public interface DogDetailsRepository extends JpaRepository<DogDetails, Long>, DogDetailsQueryRepository {
 
-    boolean existsByNumber(String number);
+    @Query("SELECT d.number FROM DogDetails d WHERE d.number IS NOT NULL")
+    List<String> findAllNumbers();
 
-    Page<DogDetails> findAllByOrderByFoundDateDesc(Pageable pageable);
+    /* === 증분 동기화: 공고번호 → (id, 상태) === */
+    @Query("SELECT d.id AS id, d.number AS number, d.state AS state FROM DogDetails d WHERE d.number IN :numbers")
+    List<DogNumberStateProjection> findStatesByNumberIn(@Param("numbers") Collection<String> numbers);
 
-    @Query("SELECT DISTINCT d.species FROM DogDetails d WHERE d.species IS NOT NULL")
-    List<String> findDistinctSpecies();
+    /* === 용어 사전(자동완성) 구성용: 값별 빈도 === */
+    @Query("SELECT new com.example.animal.service.search.TermCount(d.species, COUNT(d)) FROM DogDetails d WHERE d.species IS NOT NULL GROUP BY d.species")
+    List<TermCount> findSpeciesCounts();
+
+    @Query("SELECT new com.example.animal.service.search.TermCount(d.jurisd, COUNT(d)) FROM DogDetails d WHERE d.jurisd IS NOT NULL GROUP BY d.jurisd")
+    List<TermCount> findJurisdCounts();
+
+    @Query("SELECT new com.example.animal.service.search.TermCount(d.foundLocation, COUNT(d)) FROM DogDetails d WHERE d.foundLocation IS NOT NULL GROUP BY d.foundLocation")
+    List<TermCount> findFoundLocationCounts();
 
     List<DogDetails> findByIdIn(List<Long> ids);
 
-    @Query("""
-        SELECT d FROM DogDetails d
-        WHERE (:jurisd IS NULL OR d.jurisd LIKE CONCAT('%', :jurisd, '%'))
-            AND (:species IS NULL OR d.species LIKE CONCAT('%', :species, '%'))
-            AND (
-                    :keyword IS NULL OR
-                    d.number LIKE CONCAT('%', :keyword, '%') OR
-                    d.color LIKE CONCAT('%', :keyword, '%') OR
-                    d.state LIKE CONCAT('%', :keyword, '%') OR
-                    d.species LIKE CONCAT('%', :keyword, '%')
-            )
-        """)
-    Page<DogDetails> searchByConditionsPaged(
-        @Param("jurisd") String jurisd,
-        @Param("species") String species,
-        @Param("keyword") String keyword,
-        Pageable pageable
-    );
+    /* === 공간 인덱스 적재용 좌표 === */
+    @Query("SELECT new com.example.animal.service.geo.DogLocation(d.id, d.lat, d.lng) FROM DogDetails d WHERE d.lat IS NOT NULL AND d.lng IS NOT NULL")
+    List<DogLocation> findAllLocations();
+
+    @Query("SELECT new com.example.animal.service.geo.DogLocation(d.id, d.lat, d.lng) FROM DogDetails d WHERE d.id IN :ids")
+    List<DogLocation> findLocationsByIdIn(@Param("ids") Collection<Long> ids);
 
     /* === 새로 추가: 후보 id + 선택 필터 동시 적용 (AI 연동 전용) === */
     @Query("""
@@ -0,0 +1,24 @@
+package com.example.animal.repository;
+
+import com.example.animal.dto.SimilarDogDetailsDto;
+import com.example.animal.entity.DogSimilarity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface DogSimilarityRepository extends JpaRepository<DogSimilarity, DogSimilarity.Key> {
+
+    /** 유사 개체 목록 (순위순, 보관/삭제된 개체는 조인에서 빠짐) */
+    @Query("""
+        SELECT new com.example.animal.dto.SimilarDogDetailsDto(
+            s.score, d.id, d.number, d.species, d.gender, d.age, d.color, d.neutYn, d.jurisd,
+            d.foundDate, d.foundLocation, d.state, d.imagePath, d.shelterId, d.createdAt)
+        FROM DogSimilarity s JOIN DogDetails d ON d.id = s.similarId
+        WHERE s.dogId = :dogId
+        ORDER BY s.rank
+        """)
+    List<SimilarDogDetailsDto> findSimilar(@Param("dogId") Long dogId, Pageable pageable);
+}
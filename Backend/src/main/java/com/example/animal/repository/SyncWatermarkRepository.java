@@ -0,0 +1,7 @@
+package com.example.animal.repository;
+
+import com.example.animal.entity.SyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SyncWatermarkRepository extends JpaRepository<SyncWatermark, String> {
+}
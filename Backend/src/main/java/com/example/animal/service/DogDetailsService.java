@@ -1,70 +1,318 @@
 package com.example.animal.service;
 
 import com.example.animal.dto.DogDetailsDto;
-import com.example.animal.entity.DogDetails;
+import com.example.animal.dto.DogDetailsSearchCondition;
+import com.example.animal.dto.DogDetailsSearchRequestDto;
+import com.example.animal.dto.DogDetailsSummaryDto;
+import com.example.animal.dto.NearbyDogDto;
+import com.example.animal.dto.ShelterSummaryDto;
+import com.example.animal.dto.SimilarDogDetailsDto;
+import com.example.animal.dto.DogWithShelterDto;
 import com.example.animal.repository.DogDetailsRepository;
+import com.example.animal.repository.DogSimilarityRepository;
+import com.example.animal.service.age.BirthMonthEstimator;
+import com.example.animal.service.breed.BreedAliasDictionary;
+import com.example.animal.service.cache.CachedDogDetails;
+import com.example.animal.service.cache.DogDetailsCache;
+import com.example.animal.service.color.ColorPalette;
+import com.example.animal.service.geo.DogGeoIndex;
+import com.example.animal.service.search.DogTermField;
+import com.example.animal.service.search.DogTermIndex;
+import com.example.animal.service.search.TermDictionary;
+import com.example.animal.service.shelter.ShelterSnapshotService;
+import com.example.animal.util.Hangul;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
 @RequiredArgsConstructor
 public class DogDetailsService {
 
+    // 사전 일치 값이 이보다 많으면 IN 대신 부분 일치(LIKE)로 대체
+    private static final int MAX_IN_TERMS = 500;
+    // 보관 테이블 포함 조회는 두 테이블에서 각각 offset+size 건을 읽어 메모리에서 병합하므로 그 창을 제한
+    private static final long MAX_ARCHIVE_WINDOW = 10_000;
+
     private final DogDetailsRepository dogDetailsRepository;
+    private final DogDetailsCache dogDetailsCache;
+    private final ObjectMapper objectMapper;
+    private final DogGeoIndex dogGeoIndex;
+    private final DogTermIndex dogTermIndex;
+    private final BreedAliasDictionary breedAliasDictionary;
+    private final DogSimilarityRepository dogSimilarityRepository;
+    private final ShelterSnapshotService shelterSnapshotService;
 
     /** 전체 페이징 (필터 없음) */
+    @Transactional(readOnly = true)
     public Page<DogDetailsDto> getDogDetails(int page, int size) {
-        Pageable pageable = PageRequest.of(
-                Math.max(page, 0),
-                Math.max(size, 1),
-                Sort.by(Sort.Direction.DESC, "foundDate", "id")
-        );
-        Page<DogDetails> entityPage = dogDetailsRepository.findAllByOrderByFoundDateDesc(pageable);
-        return entityPage.map(DogDetailsDto::fromEntity);
+        return dogDetailsRepository.searchRows(DogDetailsSearchCondition.empty(), listPageable(page, size));
     }
 
-    /** 단건 조회 */
+    /** 단건 조회 (캐시 경유) */
     public Optional<DogDetailsDto> getDogDetailsById(Long id) {
-        return dogDetailsRepository.findById(id).map(DogDetailsDto::fromEntity);
+        return getCachedDogDetails(id).map(CachedDogDetails::dto);
+    }
+
+    /** 단건 조회: DTO + 직렬화 JSON + ETag (반복 조회 시 DB/직렬화 생략) */
+    public Optional<CachedDogDetails> getCachedDogDetails(Long id) {
+        return dogDetailsCache.get(id, this::loadCachedDogDetails);
+    }
+
+    // 현재 테이블에 없으면 보관 테이블에서 (종료 공고 상세 링크 유지)
+    private Optional<CachedDogDetails> loadCachedDogDetails(Long id) {
+        return dogDetailsRepository.findById(id)
+                .map(DogDetailsDto::fromEntity)
+                .or(() -> dogDetailsRepository.findArchivedRowById(id))
+                .map(this::toCached);
+    }
+
+    /** 여러 건 조회 (캐시 → 미적중분만 IN 조회 1회), 요청 순서 유지, 없는 id 는 제외 */
+    public List<CachedDogDetails> getCachedDogDetailsBatch(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, CachedDogDetails> found = dogDetailsCache.getAll(distinct, this::loadCachedDogDetailsBatch);
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    private Map<Long, CachedDogDetails> loadCachedDogDetailsBatch(Collection<Long> ids) {
+        Map<Long, CachedDogDetails> loaded = new HashMap<>();
+        for (DogDetailsDto dto : dogDetailsRepository.findRowsByIdIn(ids)) {
+            loaded.put(dto.getId(), toCached(dto));
+        }
+        if (loaded.size() < ids.size()) {
+            List<Long> rest = ids.stream().filter(id -> !loaded.containsKey(id)).toList();
+            for (DogDetailsDto dto : dogDetailsRepository.findArchivedRowsByIdIn(rest)) {
+                loaded.put(dto.getId(), toCached(dto));
+            }
+        }
+        return loaded;
+    }
+
+    /** withShelter=true 단건 응답: 보호소 요약까지 직렬화해 ETag 계산 (스냅샷이 바뀌면 ETag 도 바뀜) */
+    public CachedDogDetails withShelter(CachedDogDetails dog) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(withShelter(dog.dto()));
+            return new CachedDogDetails(dog.dto(), json, strongEtag(json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("유기견 정보 직렬화 실패", e);
+        }
+    }
+
+    private CachedDogDetails toCached(DogDetailsDto dto) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(dto);
+            return new CachedDogDetails(dto, json, strongEtag(json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("유기견 정보 직렬화 실패", e);
+        }
+    }
+
+    // 행 내용(직렬화 결과) 해시 기반 강한 ETag → 행이 바뀌면 값도 바뀜
+    private String strongEtag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /** 전체 목록 반환(페이징 없이 모두) */
+    @Transactional(readOnly = true)
     public List<DogDetailsDto> getAllDogDetails() {
-        return dogDetailsRepository.findAll().stream()
-                .map(DogDetailsDto::fromEntity)
-                .toList();
+        return dogDetailsRepository.findAllRows();
     }
 
+    /** 품종 목록 (용어 사전에서 바로 반환, DB 조회 없음) */
     public List<String> getAllBreeds() {
-        return dogDetailsRepository.findDistinctSpecies();
+        return dogTermIndex.dictionary(DogTermField.SPECIES).allTerms();
+    }
+
+    /** 자동완성: 접두어 일치 + 빈도순 */
+    public List<TermDictionary.Suggestion> suggest(DogTermField field, String query, int limit) {
+        return dogTermIndex.suggest(field, query, limit);
     }
 
     /** 페이징 + (옵션)필터 */
-    public Page<DogDetailsDto> searchDogsPaged(String jurisd, String species, String keyword,
-                                               int page, int size) {
-        Pageable pageable = PageRequest.of(
-                Math.max(page, 0),
-                Math.max(size, 1),
-                Sort.by(Sort.Direction.DESC, "foundDate", "id")
-        );
-
-        // 모든 필터가 비어 있으면 전체 페이징과 동일 동작
-        if (isBlank(jurisd) && isBlank(species) && isBlank(keyword)) {
-            return getDogDetails(page, size);
+    @Transactional(readOnly = true)
+    public Page<DogDetailsDto> searchDogsPaged(DogDetailsSearchRequestDto search, int page, int size) {
+        return dogDetailsRepository.searchRows(toCondition(search), listPageable(page, size, search.isIncludeArchived()));
+    }
+
+    /** 보호소별 유기견 목록 (shelter_id, found_date, id 인덱스) */
+    @Transactional(readOnly = true)
+    public Page<DogDetailsDto> getDogsByShelter(String shelterId, int page, int size) {
+        DogDetailsSearchCondition condition = DogDetailsSearchCondition.builder()
+                .shelterId(shelterId.trim())
+                .build();
+        return dogDetailsRepository.searchRows(condition, listPageable(page, size));
+    }
+
+    /** 보호소 요약 (보호소 스냅샷 기준, 없으면 null) */
+    public ShelterSummaryDto findShelterSummary(String shelterId) {
+        return shelterSnapshotService.findSummary(shelterId);
+    }
+
+    /** 유기견 DTO 에 보호소 요약을 붙임 (캐시된 DTO 는 수정하지 않고 감싸기만 함) */
+    public DogWithShelterDto withShelter(DogDetailsDto dog) {
+        return new DogWithShelterDto(dog, shelterSnapshotService.findSummary(dog.getShelterId()));
+    }
+
+    /** 페이징 + (옵션)필터, 목록 화면용 축약 필드만 조회 */
+    @Transactional(readOnly = true)
+    public Page<DogDetailsSummaryDto> searchDogSummariesPaged(DogDetailsSearchRequestDto search, Set<String> fields,
+                                                              int page, int size) {
+        return dogDetailsRepository
+                .searchSummaries(toCondition(search), fields, listPageable(page, size, search.isIncludeArchived()))
+                .map(dto -> dto.retain(fields));
+    }
+
+    /** 비슷한 유기견 (사전 계산된 인접 목록, 조인 한 번) */
+    @Transactional(readOnly = true)
+    public List<SimilarDogDetailsDto> getSimilarDogs(Long id, int limit) {
+        return dogSimilarityRepository.findSimilar(id, PageRequest.of(0, limit));
+    }
+
+    /** 반경 내 발견 유기견 (가까운 순, 공간 인덱스 경유) */
+    @Transactional(readOnly = true)
+    public List<NearbyDogDto> findNearby(double lat, double lng, double radiusKm, int limit) {
+        List<DogGeoIndex.Hit> hits = dogGeoIndex.nearby(lat, lng, radiusKm, limit);
+        if (hits.isEmpty()) return List.of();
+
+        Map<Long, DogDetailsDto> rows = dogDetailsRepository
+                .findRowsByIdIn(hits.stream().map(DogGeoIndex.Hit::id).toList())
+                .stream()
+                .collect(Collectors.toMap(DogDetailsDto::getId, Function.identity()));
+
+        return hits.stream()
+                .filter(h -> rows.containsKey(h.id()))
+                .map(h -> new NearbyDogDto(rows.get(h.id()), Math.round(h.distanceKm() * 100) / 100.0))
+                .toList();
+    }
+
+    // jurisd/species/location 은 용어 사전(초성/자모 포함)으로 값 목록을 먼저 구해 IN 조건으로 변환
+    // - color: 해당 비트를 모두 포함하는 마스크 목록
+    // - ageMin/ageMax(세): 오늘 기준 추정 출생 연월 범위
+    private DogDetailsSearchCondition toCondition(DogDetailsSearchRequestDto search) {
+        DogDetailsSearchCondition.DogDetailsSearchConditionBuilder b = DogDetailsSearchCondition.builder()
+                .keyword(emptyToNull(search.getKeyword()))
+                .foundFrom(search.getFoundFrom())
+                .foundTo(search.getFoundTo())
+                .shelterId(emptyToNull(search.getShelterId()))
+                .collapseDuplicates(search.isCollapse())
+                .includeArchived(search.isIncludeArchived());
+
+        String color = emptyToNull(search.getColor());
+        if (color != null) {
+            int colorMask = ColorPalette.parse(color);
+            if (colorMask == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "인식할 수 없는 색상입니다: " + color);
+            }
+            b.colorMaskIn(ColorPalette.masksContaining(colorMask));
+        }
+
+        Integer ageMin = search.getAgeMin();
+        Integer ageMax = search.getAgeMax();
+        if ((ageMin != null && ageMin < 0) || (ageMax != null && ageMax < 0)
+                || (ageMin != null && ageMax != null && ageMin > ageMax)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "나이 범위가 올바르지 않습니다.");
+        }
+        LocalDate today = LocalDate.now();
+        if (ageMin != null) b.birthYmTo(BirthMonthEstimator.toYm(today.minusYears(ageMin)));
+        if (ageMax != null) b.birthYmFrom(BirthMonthEstimator.toYm(today.minusYears(ageMax + 1L).plusMonths(1)));
+
+        if (search.getFoundFrom() != null && search.getFoundTo() != null
+                && search.getFoundFrom().isAfter(search.getFoundTo())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "발견일 범위가 올바르지 않습니다.");
+        }
+
+        String j = emptyToNull(search.getJurisd());
+        if (j != null) {
+            List<String> terms = resolveTerms(DogTermField.JURISD, j);
+            if (terms != null) b.jurisdIn(terms); else b.jurisd(j);
+        }
+        String s = emptyToNull(search.getSpecies());
+        if (s != null) {
+            List<String> canonical = resolveSpeciesCanonical(s);
+            if (canonical != null) b.speciesCanonicalIn(canonical); else b.species(s);
         }
+        String l = emptyToNull(search.getLocation());
+        if (l != null) {
+            List<String> terms = resolveTerms(DogTermField.FOUND_LOCATION, l);
+            if (terms != null) b.locationIn(terms); else b.location(l);
+        }
+        return b.build();
+    }
 
-        Page<DogDetails> result = dogDetailsRepository
-                .searchByConditionsPaged(emptyToNull(jurisd), emptyToNull(species), emptyToNull(keyword), pageable);
+    // 별칭 사전에 있으면 정규 키 하나(동등 비교), 아니면 사전 일치 값들의 정규 키 목록
+    private List<String> resolveSpeciesCanonical(String query) {
+        String canonical = breedAliasDictionary.lookup(query);
+        if (canonical != null) return List.of(canonical);
 
-        return result.map(DogDetailsDto::fromEntity);
+        List<String> terms = resolveTerms(DogTermField.SPECIES, query);
+        if (terms == null) return null;
+        List<String> keys = terms.stream()
+                .map(breedAliasDictionary::canonicalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return keys.isEmpty() ? null : keys;
+    }
+
+    /**
+     * 사전 일치 값 목록 (IN 조건), null 이면 LIKE 로 검색.
+     * - 사전에 없음: 사전이 아직 로드/갱신 전일 수 있으므로 LIKE (빈 IN 으로 0건 처리하지 않음)
+     * - MAX_IN_TERMS 초과: LIKE. 단, 자모가 섞인 질의("진ㄷ")는 LIKE 로 못 찾으므로
+     *   빈도 상위 MAX_IN_TERMS 개 값만 검색 (그 밖의 드문 값은 결과에서 빠짐)
+     */
+    private List<String> resolveTerms(DogTermField field, String query) {
+        List<String> terms = dogTermIndex.matchTerms(field, query);
+        if (terms.isEmpty()) return null;
+        if (terms.size() <= MAX_IN_TERMS) return terms;
+        if (!Hangul.containsJamo(query)) return null;
+        return dogTermIndex.suggest(field, query, MAX_IN_TERMS).stream()
+                .map(TermDictionary.Suggestion::term)
+                .toList();
+    }
+
+    private Pageable listPageable(int page, int size) {
+        return listPageable(page, size, false);
+    }
+
+    // includeArchived 는 병합 창(offset+size)이 MAX_ARCHIVE_WINDOW 를 넘으면 400, 현재 테이블만 읽을 때는 int offset 범위만 확인
+    private Pageable listPageable(int page, int size, boolean includeArchived) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.max(size, 1);
+        long window = (long) safePage * safeSize + safeSize;
+        long maxWindow = includeArchived ? MAX_ARCHIVE_WINDOW : Integer.MAX_VALUE;
+        if (window > maxWindow) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "조회 범위가 너무 큽니다. (page+1)*size 는 " + maxWindow + " 이하여야 합니다.");
+        }
+        return PageRequest.of(safePage, safeSize, Sort.by(Sort.Direction.DESC, "foundDate", "id"));
     }
 
     private boolean isBlank(String s) {
@@ -5,6 +5,7 @@ import com.example.animal.dto.SimilarDogResponseDto;
 import com.example.animal.dto.SimilarDogResultDto;
 import com.example.animal.entity.DogDetails;
 import com.example.animal.repository.DogDetailsRepository;
+import com.example.animal.service.color.ColorPalette;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.ParameterizedTypeReference;
@@ -32,7 +33,7 @@ public class ImageSearchService {
 
     // 기능 1: 유사 유기견 검색 + 필터링 검색어 검색
     // 기존 시그니처 유지(호환) — 필요 없으면 제거 가능
-    public SimilarDogResponseDto searchSimilarDogsOnly(MultipartFile imageFile) {
+    public SimilarDogResponseDto searchSimilarDogsOnly(MultipartFile imageFile, String color, boolean collapse) {
         Map<String, Object> aiResponse = requestToAiServer(imageFile, "uploaded");
 
         List<SimilarDogResultDto> parsed = parseResults(aiResponse);
@@ -42,16 +43,7 @@ public class ImageSearchService {
             return empty;
         }
 
-        // rank 보존용 맵
-        Map<Long, Integer> rankMap = parsed.stream()
-                .collect(Collectors.toMap(SimilarDogResultDto::getId, SimilarDogResultDto::getRank));
-
-        // DB에서 한 번에 가져오기
-        List<Long> ids = parsed.stream().map(SimilarDogResultDto::getId).toList();
-        List<DogDetails> dogs = dogDetailsRepository.findByIdIn(ids);
-
-        // AI rank 기준으로 정렬
-        dogs.sort(Comparator.comparingInt(d -> rankMap.getOrDefault(d.getId(), Integer.MAX_VALUE)));
+        List<DogDetails> dogs = rankedDogs(parsed, queryColorMask(color), collapse);
 
         SimilarDogResponseDto result = new SimilarDogResponseDto();
         result.setDogs(dogs.stream().map(DogDetailsDto::fromEntity).toList());
@@ -60,17 +52,12 @@ public class ImageSearchService {
 
 
     // 기능 2: 유사 유기견 + 성견 이미지
-    public SimilarDogResponseDto searchSimilarDogsWithGeneratedImage(MultipartFile imageFile) {
+    public SimilarDogResponseDto searchSimilarDogsWithGeneratedImage(MultipartFile imageFile, String color,
+                                                                    boolean collapse) {
         Map<String, Object> aiResponse = requestToAiServer(imageFile, "generated");
 
         List<SimilarDogResultDto> parsed = parseResults(aiResponse);
-
-        List<Long> ids = parsed.stream().map(SimilarDogResultDto::getId).toList();
-        Map<Long, Integer> rankMap = parsed.stream().collect(Collectors.toMap(
-                SimilarDogResultDto::getId, SimilarDogResultDto::getRank));
-
-        List<DogDetails> dogs = dogDetailsRepository.findByIdIn(ids);
-        dogs.sort(Comparator.comparingInt(d -> rankMap.getOrDefault(d.getId(), Integer.MAX_VALUE)));
+        List<DogDetails> dogs = rankedDogs(parsed, queryColorMask(color), collapse);
 
         String imageBase64 = aiResponse.get("image").toString();
 
@@ -81,6 +68,37 @@ public class ImageSearchService {
         return result;
     }
 
+    // DB에서 한 번에 가져와 AI rank 순 정렬, 요청에 color 가 있으면 같은 rank 안에서만 색상 일치 비트 수(내림차순)로 정렬
+    // collapse: 같은 중복 클러스터는 가장 앞선 1건만
+    private List<DogDetails> rankedDogs(List<SimilarDogResultDto> parsed, int colorMask, boolean collapse) {
+        Map<Long, Integer> rankMap = parsed.stream()
+                .collect(Collectors.toMap(SimilarDogResultDto::getId, SimilarDogResultDto::getRank, (a, b) -> a));
+
+        List<Long> ids = parsed.stream().map(SimilarDogResultDto::getId).toList();
+        List<DogDetails> dogs = new ArrayList<>(dogDetailsRepository.findByIdIn(ids));
+
+        Comparator<DogDetails> byRank = Comparator.comparingInt(d -> rankMap.getOrDefault(d.getId(), Integer.MAX_VALUE));
+        if (colorMask == 0) {
+            dogs.sort(byRank);
+        } else {
+            dogs.sort(byRank.thenComparing(Comparator.<DogDetails>comparingInt(d -> colorOverlap(d, colorMask)).reversed()));
+        }
+        if (collapse) {
+            Set<Long> seenClusters = new HashSet<>();
+            dogs.removeIf(d -> d.getDupClusterId() != null && !seenClusters.add(d.getDupClusterId()));
+        }
+        return dogs;
+    }
+
+    private int colorOverlap(DogDetails dog, int colorMask) {
+        return dog.getColorMask() == null ? 0 : Integer.bitCount(dog.getColorMask() & colorMask);
+    }
+
+    // 요청에 명시한 color 만 사용 (AI 가 판별한 color_used 로는 순위를 바꾸지 않음)
+    private int queryColorMask(String color) {
+        return color == null || color.isBlank() ? 0 : ColorPalette.parse(color);
+    }
+
     // AI 요청: 기능별로 엔드포인트 선택
     private Map<String, Object> requestToAiServer(MultipartFile imageFile, String mode) {
         
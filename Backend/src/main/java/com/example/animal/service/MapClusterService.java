@@ -0,0 +1,38 @@
+package com.example.animal.service;
+
+import com.example.animal.dto.MapClustersDto;
+import com.example.animal.service.geo.DogGeoIndex;
+import com.example.animal.service.geo.GeoClusterIndex;
+import com.example.animal.service.shelter.ShelterSnapshotService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 지도 클러스터 조회.
+ * - 유기견: DogGeoIndex 가 변경 이벤트마다 증분 갱신하는 geohash 접두어 버킷
+ * - 보호소: 스냅샷 교체 시 새로 만든 버킷 (스냅샷 적재 전이면 빈 목록)
+ * - 셀 수 상한(max-cells)으로 데이터 크기와 무관하게 응답 크기가 제한됨
+ */
+@Service
+public class MapClusterService {
+
+    private final DogGeoIndex dogGeoIndex;
+    private final ShelterSnapshotService shelterSnapshotService;
+    private final int maxCells;
+
+    public MapClusterService(DogGeoIndex dogGeoIndex,
+                             ShelterSnapshotService shelterSnapshotService,
+                             @Value("${app.map.clusters.max-cells:512}") int maxCells) {
+        this.dogGeoIndex = dogGeoIndex;
+        this.shelterSnapshotService = shelterSnapshotService;
+        this.maxCells = Math.max(maxCells, 1);
+    }
+
+    public MapClustersDto clusters(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        int precision = GeoClusterIndex.precisionFor(zoom, minLat, minLng, maxLat, maxLng, maxCells);
+        return new MapClustersDto(
+                precision,
+                shelterSnapshotService.current().clusters(minLat, minLng, maxLat, maxLng, precision),
+                dogGeoIndex.clusters(minLat, minLng, maxLat, maxLng, precision));
+    }
+}
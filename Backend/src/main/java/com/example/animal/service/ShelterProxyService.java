@@ -1,137 +1,226 @@
 package com.example.animal.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import com.example.animal.dto.NearbyShelterDto;
 import com.example.animal.dto.ShelterApiResponseWrapper;
+import com.example.animal.dto.ShelterHoursItemDto;
+import com.example.animal.dto.ShelterPage;
 import com.example.animal.dto.ShelterResponseDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import com.example.animal.service.cache.ShelterResponseCache;
+import com.example.animal.service.quota.QuotaExceededException;
+import com.example.animal.service.quota.QuotaPriority;
+import com.example.animal.service.shelter.ShelterApiClient;
+import com.example.animal.service.shelter.ShelterApiException;
+import com.example.animal.service.shelter.ShelterHours;
+import com.example.animal.service.shelter.ShelterMatcher;
+import com.example.animal.service.shelter.ShelterPayloadParser;
+import com.example.animal.service.shelter.ShelterSnapshot;
+import com.example.animal.service.shelter.ShelterSnapshotService;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.InputStream;
 import java.io.IOException;
-
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URI;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ShelterProxyService {
 
-    @Value("${openapi.shelter.service-key}")
-    private String serviceKey;
-
-    @Value("${openapi.shelter.url}")
-    private String apiUrl;
-
-    public ResponseEntity<?> getShelterData(int page, int size) {
-        HttpURLConnection connection = null;
-        InputStream stream = null;
-        String result = null;
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final ShelterApiClient shelterApiClient;
+    private final ShelterResponseCache shelterResponseCache;
+    private final ShelterSnapshotService shelterSnapshotService;
+    private final ShelterPayloadParser shelterPayloadParser;
+
+    /**
+     * 보호소 목록 조회.
+     * 전체 스냅샷이 적재돼 있으면 전체 데이터에서 필터링/페이징 (totalCount 는 필터 결과 건수),
+     * 아직 없으면 공공API 페이지 단위 조회로 대체.
+     * openAt 이 있으면 항목에 그 시각 기준 open/nextOpenAt 포함 (운영시간을 모르면 hoursKnown=false),
+     * openOnly=true 면 그 시각에 운영 중인 보호소만 (운영시간을 모르는 곳 제외).
+     */
+    public CompletableFuture<ResponseEntity<?>> getShelters(int page, int size, String orgNm, String search,
+                                                            LocalDateTime openAt, boolean openOnly) {
+        if (!shelterSnapshotService.isReady()) {
+            if (openAt != null) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "보호소 목록을 아직 불러오지 못했습니다.");
+            }
+            boolean filtered = (orgNm != null && !orgNm.isBlank()) || (search != null && !search.isBlank());
+            return filtered ? getShelterDataFiltered(page, size, orgNm, search) : getShelterData(page, size);
+        }
 
-        try {
-            // 🔒 serviceKey는 인코딩하지 않습니다
-            // 📌 기타 파라미터는 인코딩 필요 없음 (숫자, 영문자)
-            StringBuilder requestUrl = new StringBuilder(apiUrl);
-            requestUrl.append("?serviceKey=").append(serviceKey);
-            requestUrl.append("&MobileOS=ETC");
-            requestUrl.append("&MobileApp=LostDogApp");
-            requestUrl.append("&_type=json");
-            requestUrl.append("&pageNo=").append(page);
-            requestUrl.append("&numOfRows=").append(size);
-
-            System.out.println("[DEBUG] Final URL: " + requestUrl);
-
-            // 💬 URL 객체 생성 및 연결
-            URI uri = new URI(requestUrl.toString());
-            URL url = uri.toURL(); 
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
-            connection.setRequestProperty("Accept", "application/json");
-            connection.setRequestProperty("User-Agent", "Mozilla/5.0");
-
-            int responseCode = connection.getResponseCode();
-            System.out.println("[DEBUG] HTTP Response Code: " + responseCode);
-
-            if (responseCode == 200) {
-                stream = connection.getInputStream();
-                result = readStream(stream);
-                return ResponseEntity.ok(result);  // JSON 문자열 그대로 반환
-            } else {
-                stream = connection.getErrorStream();
-                result = readStream(stream);
-                System.err.println("[공공API 오류] 응답 코드: " + responseCode);
-                System.err.println(result);
-                return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
-                        .body("공공API 오류 발생:\n" + result);
+        ShelterSnapshot snapshot = shelterSnapshotService.current();
+        int openMinute = openAt == null ? -1 : ShelterHours.minuteOfWeek(openAt);
+        int[] matched = snapshot.match(ShelterMatcher.of(orgNm, search), openOnly ? openMinute : -1);
+
+        int pageNo = Math.max(page, 1);
+        int rows = Math.max(size, 1);
+        long from = (long) (pageNo - 1) * rows;
+        int to = (int) Math.min(from + rows, matched.length);
+
+        List<ShelterResponseDto.Item> pageItems = new ArrayList<>();
+        for (long k = from; k < to; k++) {
+            int idx = matched[(int) k];
+            ShelterResponseDto.Item item = snapshot.item(idx);
+            if (openAt != null) {
+                ShelterHours hours = snapshot.hours(idx);
+                item = hours.isKnown()
+                        ? ShelterHoursItemDto.of(item, true, hours.isOpenAt(openMinute), hours.nextOpenAt(openAt))
+                        : ShelterHoursItemDto.of(item, false, null, null);
             }
+            pageItems.add(item);
+        }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("요청 처리 중 예외 발생: " + e.getMessage());
-        } finally {
-            if (stream != null) try { stream.close(); } catch (IOException ignored) {}
-            if (connection != null) connection.disconnect();
+        return CompletableFuture.completedFuture(ResponseEntity.ok(toWrapper(pageItems, pageNo, rows, matched.length)));
+    }
+
+    /** 기준점에서 가까운 보호소 k 곳 (스냅샷의 k-d 트리 사용) */
+    public List<NearbyShelterDto> findNearby(double lat, double lng, int k) {
+        if (!shelterSnapshotService.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "보호소 목록을 아직 불러오지 못했습니다.");
         }
+        return shelterSnapshotService.current().nearest(lat, lng, k).stream()
+                .map(n -> new NearbyShelterDto(n.shelter(), Math.round(n.distanceKm() * 100) / 100.0))
+                .toList();
     }
 
-    // 🔁 InputStream → String 변환 메서드
-    private String readStream(InputStream stream) throws IOException {
-        BufferedReader br = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
-        StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = br.readLine()) != null) {
-            sb.append(line).append("\n");
+    // 📄 공공API 응답과 같은 모양으로 감싸기 (프론트 파싱 로직 그대로 사용)
+    private ShelterApiResponseWrapper toWrapper(List<ShelterResponseDto.Item> items, int pageNo, int rows, int total) {
+        ShelterResponseDto.Header header = new ShelterResponseDto.Header();
+        header.setResultCode("00");
+        header.setResultMsg("NORMAL SERVICE.");
+
+        ShelterResponseDto.Items wrapped = new ShelterResponseDto.Items();
+        wrapped.setItem(items);
+
+        ShelterResponseDto.Body body = new ShelterResponseDto.Body();
+        body.setItems(wrapped);
+        body.setPageNo(String.valueOf(pageNo));
+        body.setNumOfRows(String.valueOf(rows));
+        body.setTotalCount(String.valueOf(total));
+
+        ShelterResponseDto response = new ShelterResponseDto();
+        response.setHeader(header);
+        response.setBody(body);
+
+        ShelterApiResponseWrapper wrapper = new ShelterApiResponseWrapper();
+        wrapper.setResponse(response);
+        return wrapper;
+    }
+
+    public CompletableFuture<ResponseEntity<?>> getShelterData(int page, int size) {
+        // 📦 (page, size) 단위 캐시 → 미스/만료 시에만 공공API 호출 (비동기)
+        return shelterResponseCache.get(page, size, () -> shelterApiClient.fetchPageRawAsync(page, size, QuotaPriority.USER))
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)  // JSON 문자열 그대로 반환
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof QuotaExceededException) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body("공공API 호출 한도에 도달했습니다. 잠시 후 다시 시도해 주세요.");
+                    }
+                    if (cause instanceof ShelterApiException e) {
+                        log.warn("[보호소] 공공API 오류 응답 코드={} 본문={}", e.getResponseCode(), e.getBody());
+                        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                                .body("공공API 오류 발생:\n" + e.getBody());
+                    }
+                    log.warn("[보호소] 요청 처리 실패 page={} size={}", page, size, cause);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body("요청 처리 중 예외 발생: " + cause.getMessage());
+                });
+    }
+
+    /**
+     * 필터 없는 원본 페이지 pass-through.
+     * upstream 바이트를 고정 크기 버퍼로 응답 스트림에 바로 복사 (String 변환/재인코딩 없음, 요청당 힙 일정)
+     * acceptGzip 이면 gzip 본문을 풀지 않고 Content-Encoding 과 함께 그대로 전달.
+     */
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> streamShelterData(int page, int size,
+                                                                                     boolean acceptGzip) {
+        return shelterApiClient.openPageStream(page, size, acceptGzip)
+                .thenApply(upstream -> {
+                    InputStream in = upstream.body();
+                    if (upstream.statusCode() != 200) {
+                        // readFully 가 스트림을 닫아 커넥션 반환
+                        String error = readFully(in, upstream.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+                        log.warn("[보호소 원본] 공공API 오류 응답 코드={} 본문={}", upstream.statusCode(), error);
+                        throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                                "공공API 오류 (응답 코드 " + upstream.statusCode() + ")");
+                    }
+
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                            .header(HttpHeaders.CONTENT_TYPE, upstream.headers()
+                                    .firstValue(HttpHeaders.CONTENT_TYPE).orElse("application/json;charset=UTF-8"))
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                    upstream.headers().firstValue(HttpHeaders.CONTENT_ENCODING)
+                            .ifPresent(v -> builder.header(HttpHeaders.CONTENT_ENCODING, v));
+
+                    StreamingResponseBody body = out -> {
+                        try (in) {
+                            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                            int n;
+                            while ((n = in.read(buffer)) != -1) {
+                                out.write(buffer, 0, n);
+                            }
+                        }
+                    };
+                    return builder.body(body);
+                })
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof ResponseStatusException rse) throw rse;
+                    if (cause instanceof QuotaExceededException) {
+                        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                                "공공API 호출 한도에 도달했습니다. 잠시 후 다시 시도해 주세요.");
+                    }
+                    log.warn("[보호소 원본] 요청 처리 실패 page={} size={}", page, size, cause);
+                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "공공API 요청 처리 실패", cause);
+                });
+    }
+
+    // 오류 응답 본문은 작으므로 통째로 읽어서 로그/메시지에 사용
+    private static String readFully(InputStream in, String contentEncoding) {
+        try (InputStream src = contentEncoding != null && contentEncoding.toLowerCase().contains("gzip")
+                ? new GZIPInputStream(in) : in) {
+            return new String(src.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
         }
-        br.close();
-        return sb.toString();
     }
 
-    public ResponseEntity<?> getShelterDataFiltered(int page, int size, String orgNm, String search) {
+    public CompletableFuture<ResponseEntity<?>> getShelterDataFiltered(int page, int size, String orgNm, String search) {
+        // 🔁 기존 getShelterData에서 가져온 JSON 문자열을 재사용
+        return getShelterData(page, size).thenApply(rawResponse -> filterPage(rawResponse, page, size, orgNm, search));
+    }
+
+    // 📄 한 페이지 응답을 스트리밍 파싱하며 필터 (조건에 맞지 않는 항목은 객체로 만들지 않음)
+    private ResponseEntity<?> filterPage(ResponseEntity<?> rawResponse, int page, int size, String orgNm, String search) {
+        if (!rawResponse.getStatusCode().is2xxSuccessful()) return rawResponse;
         try {
-            // 🔁 기존 getShelterData에서 가져온 JSON 문자열을 재사용
-            ResponseEntity<?> rawResponse = getShelterData(page, size);
             if (!(rawResponse.getBody() instanceof String rawJson)) {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                         .body("예상치 못한 응답 형식입니다.");
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-            ShelterApiResponseWrapper wrapper = mapper.readValue(rawJson, ShelterApiResponseWrapper.class);
-            ShelterResponseDto response = wrapper.getResponse();
-
-            List<ShelterResponseDto.Item> items = response.getBody().getItems().getItem();
-
-            if (orgNm != null && !orgNm.isBlank()) {
-                items = items.stream()
-                        .filter(i -> i.getOrgNm() != null && i.getOrgNm().contains(orgNm))
-                        .collect(Collectors.toList());
-            }
-
-            if (search != null && !search.isBlank()) {
-                String keyword = search.toLowerCase();
-                items = items.stream()
-                        .filter(i ->
-                                (i.getCareNm() != null && i.getCareNm().toLowerCase().contains(keyword)) ||
-                                (i.getOrgNm() != null && i.getOrgNm().toLowerCase().contains(keyword)) ||
-                                (i.getCareAddr() != null && i.getCareAddr().toLowerCase().contains(keyword))
-                        )
-                        .collect(Collectors.toList());
-            }
-
-            response.getBody().getItems().setItem(items);
-            return ResponseEntity.ok(response);
+            ShelterPage parsed = shelterPayloadParser.parse(rawJson, ShelterMatcher.of(orgNm, search));
+            return ResponseEntity.ok(toWrapper(parsed.items(), page, size, parsed.totalCount()));
 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
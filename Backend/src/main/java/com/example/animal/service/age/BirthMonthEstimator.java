@@ -0,0 +1,55 @@
+package com.example.animal.service.age;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 나이 문자열 → 추정 출생 연월(yyyymm).
+ * "2023(년생)", "60일미만", "3개월", "2세", "2023(60일미만)(년생)" 등. 기준일은 발견일.
+ * 더 구체적인 표현(일 > 개월 > 세 > 년생) 우선.
+ */
+public final class BirthMonthEstimator {
+
+    private static final Pattern DAYS = Pattern.compile("(\\d{1,3})일(미만)?");
+    private static final Pattern MONTHS = Pattern.compile("(\\d{1,2})개월(미만)?");
+    private static final Pattern YEARS_OLD = Pattern.compile("(\\d{1,2})(세|살)");
+    private static final Pattern BIRTH_YEAR = Pattern.compile("((?:19|20)\\d{2})");
+
+    private BirthMonthEstimator() {}
+
+    /** 추정 불가면 null */
+    public static Integer estimate(String age, LocalDate reference) {
+        if (age == null || age.isBlank() || reference == null) return null;
+        String s = age.replace(" ", "");
+
+        Matcher m = DAYS.matcher(s);
+        if (m.find()) return toYm(reference.minusDays(amount(m)));
+
+        m = MONTHS.matcher(s);
+        if (m.find()) return toYm(reference.minusMonths(amount(m)));
+
+        m = YEARS_OLD.matcher(s);
+        if (m.find()) return toYm(reference.minusYears(Integer.parseInt(m.group(1))));
+
+        m = BIRTH_YEAR.matcher(s);
+        if (m.find()) {
+            int year = Integer.parseInt(m.group(1));
+            if (year > reference.getYear()) return null;
+            // 월 정보가 없으므로 연중 중간값, 발견 연도와 같으면 발견월까지의 중간값
+            int month = year == reference.getYear() ? (reference.getMonthValue() + 1) / 2 : 6;
+            return year * 100 + month;
+        }
+        return null;
+    }
+
+    public static int toYm(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    // "N일미만" 처럼 상한만 주어지면 중간값
+    private static int amount(Matcher m) {
+        int n = Integer.parseInt(m.group(1));
+        return m.group(2) != null ? n / 2 : n;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.animal.service.age;
+
+import com.example.animal.entity.DogDetails;
+import com.example.animal.event.DogDetailsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * age → birth_ym (적재 시점 파싱).
+ * 나이 범위 필터는 출생 연월 범위 조건이 되어 (birth_ym, found_date) 인덱스 범위 스캔으로 처리된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DogAgeService {
+
+    private static final int BACKFILL_BATCH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher publisher;
+
+    /** 적재 경로에서 호출: 추정 출생 연월 채우기 (기준일: 발견일, 없으면 등록일) */
+    public void apply(DogDetails dog) {
+        LocalDate reference = dog.getFoundDate() != null ? dog.getFoundDate()
+                : dog.getCreatedAt() != null ? dog.getCreatedAt().toLocalDate() : null;
+        dog.setBirthYm(BirthMonthEstimator.estimate(dog.getAge(), reference));
+    }
+
+    /** 출생 연월이 비어 있는 기존 행 보정 (기동 시 1회, 해석할 수 없는 나이는 birth_ym_failed_at 기록 후 다음부터 건너뜀) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissing() {
+        long lastId = 0;
+        int updated = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query("""
+                    SELECT id, age, found_date, created_at FROM dog_details
+                    WHERE birth_ym IS NULL AND age IS NOT NULL AND birth_ym_failed_at IS NULL AND id > ? ORDER BY id LIMIT ?
+                    """,
+                    (rs, i) -> new Object[] { rs.getLong(1), rs.getString(2), rs.getDate(3), rs.getTimestamp(4) },
+                    lastId, BACKFILL_BATCH);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> batch = new ArrayList<>();
+            List<Object[]> failed = new ArrayList<>();
+            for (Object[] r : rows) {
+                lastId = (Long) r[0];
+                LocalDate reference = r[2] != null ? ((Date) r[2]).toLocalDate()
+                        : r[3] != null ? ((Timestamp) r[3]).toLocalDateTime().toLocalDate() : null;
+                Integer birthYm = BirthMonthEstimator.estimate((String) r[1], reference);
+                if (birthYm != null) batch.add(new Object[] { birthYm, r[0] });
+                else failed.add(new Object[] { r[0] });
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE dog_details SET birth_ym = ? WHERE id = ?", batch);
+                updated += batch.size();
+            }
+            if (!failed.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE dog_details SET birth_ym_failed_at = NOW() WHERE id = ?", failed);
+            }
+        }
+
+        if (updated > 0) {
+            publisher.publishEvent(DogDetailsChangedEvent.all());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.animal.service.archive;
+
+import com.example.animal.dto.ArchiveReportDto;
+import com.example.animal.event.DogDetailsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 종료 상태(state = '종료(...)') 공고를 dog_details → dog_details_archive 로 배치 이동.
+ * - 발견일이 보관 기준일(min-age-days) 이전인 행만 대상 → 최근 종료 건은 목록에 잠시 남김
+ * - 배치마다 INSERT ... SELECT + DELETE 를 한 트랜잭션으로 처리
+ * - 커밋 후 변경 이벤트 발행 → 캐시/공간/용어 인덱스에서 제거
+ */
+@Slf4j
+@Service
+public class DogDetailsArchiveService {
+
+    static final String CLOSED_STATE_PREFIX = "종료";
+
+    private static final String COLUMNS = """
+        id, number, species, species_canonical, gender, age, birth_ym, color, color_mask, neut_YN, jurisd,
+        found_date, found_location, state, image_path, lat, lng, shelter_id, dup_cluster_id, dup_primary, created_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher publisher;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int minAgeDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DogDetailsArchiveService(JdbcTemplate jdbcTemplate,
+                                    NamedParameterJdbcTemplate namedJdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ApplicationEventPublisher publisher,
+                                    @Value("${app.archive.enabled:true}") boolean enabled,
+                                    @Value("${app.archive.batch-size:1000}") int batchSize,
+                                    @Value("${app.archive.min-age-days:30}") int minAgeDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.publisher = publisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.minAgeDays = minAgeDays;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) return;
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            log.warn("종료 공고 보관 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public ArchiveReportDto archive() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 보관 처리가 진행 중입니다.");
+        }
+        try {
+            return doArchive();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ArchiveReportDto doArchive() {
+        long started = System.nanoTime();
+        LocalDate cutoff = LocalDate.now().minusDays(minAgeDays);
+        long archived = 0, batches = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList("""
+                    SELECT id FROM dog_details
+                    WHERE state LIKE CONCAT(?, '%') AND found_date < ? AND id > ?
+                    ORDER BY id LIMIT ?
+                    """, Long.class, CLOSED_STATE_PREFIX, Date.valueOf(cutoff), lastId, batchSize);
+            if (ids.isEmpty()) break;
+            lastId = ids.get(ids.size() - 1);
+
+            Integer moved = transactionTemplate.execute(status -> moveBatch(ids));
+            archived += moved == null ? 0 : moved;
+            batches++;
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        if (archived > 0) {
+            log.info("종료 공고 보관: {}건 ({} 배치, 기준일 {}), {}ms", archived, batches, cutoff, elapsedMs);
+        }
+        return new ArchiveReportDto(archived, batches, cutoff, elapsedMs);
+    }
+
+    // 같은 번호가 이미 보관돼 있으면(재적재 등) 보관본을 최신 값으로 덮어씀
+    private int moveBatch(List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        namedJdbcTemplate.update(
+                "REPLACE INTO dog_details_archive (" + COLUMNS + ", archived_at) "
+                        + "SELECT " + COLUMNS + ", NOW() FROM dog_details WHERE id IN (:ids)",
+                params);
+        int deleted = namedJdbcTemplate.update("DELETE FROM dog_details WHERE id IN (:ids)", params);
+        publisher.publishEvent(DogDetailsChangedEvent.of(ids));
+        return deleted;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.animal.service.archive;
+
+import com.example.animal.dto.PartitionReportDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * dog_details 월 파티션 롤링 유지 (db/partition-dog-details.sql 적용 후에만 동작).
+ * - 마지막 월 파티션 다음 달부터 (이번 달 + months-ahead) 까지를 p_future 에서 REORGANIZE 로 분할
+ * - 기동 시 한 번 + 매월 실행, 빠진 달이 있으면 한꺼번에 채움 (그 사이 p_future 에 쌓인 행은 MySQL 이 옮김)
+ * - 파티션이 없는 테이블(스크립트 미적용)이면 아무것도 하지 않음
+ */
+@Slf4j
+@Service
+public class DogDetailsPartitionMaintainer {
+
+    static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DogDetailsPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                         @Value("${app.archive.partitions.enabled:true}") boolean enabled,
+                                         @Value("${app.archive.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = Math.max(monthsAhead, 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        scheduledMaintain();
+    }
+
+    @Scheduled(cron = "${app.archive.partitions.cron:0 0 2 1 * *}")
+    public void scheduledMaintain() {
+        if (!enabled) return;
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            log.warn("dog_details 파티션 유지 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public PartitionReportDto maintain() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 파티션 유지 작업이 진행 중입니다.");
+        }
+        try {
+            return doMaintain();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private PartitionReportDto doMaintain() {
+        long started = System.nanoTime();
+
+        // RANGE COLUMNS 경계값은 '2025-07-01' 처럼 따옴표 포함 문자열, p_future 는 MAXVALUE
+        List<String> bounds = jdbcTemplate.queryForList("""
+                SELECT PARTITION_DESCRIPTION FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'dog_details' AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """, String.class);
+        if (bounds.isEmpty()) {
+            return new PartitionReportDto(false, List.of(), 0);
+        }
+
+        LocalDate lastBound = null;
+        for (String b : bounds) {
+            if (b == null || b.equalsIgnoreCase("MAXVALUE")) continue;
+            LocalDate d = LocalDate.parse(b.replace("'", "").trim());
+            if (lastBound == null || d.isAfter(lastBound)) lastBound = d;
+        }
+
+        // lastBound 는 마지막 월 파티션의 배타적 상한 = 다음에 만들 달의 1일
+        YearMonth next = lastBound == null ? YearMonth.now() : YearMonth.from(lastBound);
+        YearMonth until = YearMonth.now().plusMonths(monthsAhead);
+        List<String> added = new ArrayList<>();
+        StringBuilder parts = new StringBuilder();
+        for (YearMonth m = next; !m.isAfter(until); m = m.plusMonths(1)) {
+            String name = m.format(NAME);
+            parts.append("PARTITION ").append(name)
+                    .append(" VALUES LESS THAN ('").append(m.plusMonths(1).atDay(1)).append("'), ");
+            added.add(name);
+        }
+
+        if (!added.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE dog_details REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + parts + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        if (!added.isEmpty()) {
+            log.info("dog_details 월 파티션 추가: {} ({}ms)", added, elapsedMs);
+        }
+        return new PartitionReportDto(true, added, elapsedMs);
+    }
+}
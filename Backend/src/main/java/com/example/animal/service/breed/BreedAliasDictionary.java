@@ -0,0 +1,78 @@
+package com.example.animal.service.breed;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 품종 별칭 사전 (classpath:breed/breed-aliases.csv).
+ * 별칭/표기 변형 → 정규 품종 키. 사전에 없는 값은 정규화한 문자열 자체를 키로 쓴다.
+ * 정규화 규칙은 AI 서비스 normalize_breed(AI/breed.py)와 같다.
+ * 두 구현은 공유 케이스 docs/fixtures/breed_normalize_cases.tsv 로 함께 확인한다 (BreedAliasDictionaryParityTest, AI/test_breed.py).
+ */
+@Component
+public class BreedAliasDictionary {
+
+    private static final String RESOURCE = "breed/breed-aliases.csv";
+    private static final int MAX_KEY_LENGTH = 64;
+    // Python re 의 \s 와 같도록 유니코드 공백 포함
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s_\\-]+", Pattern.UNICODE_CHARACTER_CLASS);
+
+    private final Map<String, String> canonicalByAlias = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] cols = line.split(",");
+                String canonical = cols[0].trim();
+                for (String alias : cols) {
+                    canonicalByAlias.put(normalize(alias), canonical);
+                }
+            }
+        }
+    }
+
+    /** 별칭 사전에 있는 값이면 정규 키, 없으면 null */
+    public String lookup(String species) {
+        String key = normalize(species);
+        return key.isEmpty() ? null : canonicalByAlias.get(key);
+    }
+
+    /** 정규 품종 키 (사전에 없으면 정규화 문자열, 빈 값이면 null) */
+    public String canonicalize(String species) {
+        String key = normalize(species);
+        if (key.isEmpty()) return null;
+        String canonical = canonicalByAlias.get(key);
+        if (canonical != null) return canonical;
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    // 소문자화 → 공백/_/- 연속은 "_" 하나로 → 앞뒤 "_" 제거 → "[개] " 같은 분류 접두어 제거
+    static String normalize(String s) {
+        if (s == null) return "";
+        String t = stripUnderscores(SEPARATORS.matcher(s.toLowerCase(Locale.ROOT)).replaceAll("_"));
+        if (t.startsWith("[") && t.indexOf(']') > 0) t = stripUnderscores(t.substring(t.indexOf(']') + 1));
+        return t;
+    }
+
+    private static String stripUnderscores(String s) {
+        int from = 0;
+        int to = s.length();
+        while (from < to && s.charAt(from) == '_') from++;
+        while (to > from && s.charAt(to - 1) == '_') to--;
+        return s.substring(from, to);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.animal.service.breed;
+
+import com.example.animal.entity.DogDetails;
+import com.example.animal.event.DogDetailsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * species → species_canonical (적재 시점 정규화).
+ * 검색은 별칭을 정규 키로 바꾼 뒤 인덱스 컬럼 동등 비교 한 번으로 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DogBreedCanonicalService {
+
+    private final BreedAliasDictionary aliasDictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher publisher;
+
+    /** 적재 경로에서 호출: 정규 품종 키 채우기 */
+    public void apply(DogDetails dog) {
+        dog.setSpeciesCanonical(aliasDictionary.canonicalize(dog.getSpecies()));
+    }
+
+    /**
+     * 기존 행 보정 (기동 시 1회).
+     * 고유 species 값 단위로 갱신하므로 별칭 사전이 바뀐 경우도 함께 반영된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<String> speciesValues = jdbcTemplate.queryForList(
+                "SELECT DISTINCT species FROM dog_details WHERE species IS NOT NULL", String.class);
+
+        List<Object[]> batch = new ArrayList<>(speciesValues.size());
+        for (String species : speciesValues) {
+            String canonical = aliasDictionary.canonicalize(species);
+            if (canonical != null) batch.add(new Object[] { canonical, species, canonical });
+        }
+        if (batch.isEmpty()) return;
+
+        int[] counts = jdbcTemplate.batchUpdate("""
+                UPDATE dog_details SET species_canonical = ?
+                WHERE species = ? AND (species_canonical IS NULL OR species_canonical <> ?)
+                """, batch);
+
+        for (int c : counts) {
+            if (c != 0) {
+                publisher.publishEvent(DogDetailsChangedEvent.all());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.animal.service.cache;
+
+import com.example.animal.dto.DogDetailsDto;
+
+/**
+ * 캐시 항목: DTO + 직렬화된 JSON + 강한 ETag.
+ * JSON을 미리 만들어 두어 반복 조회 시 직렬화 비용이 없다.
+ */
+public record CachedDogDetails(DogDetailsDto dto, byte[] json, String etag) {
+}
@@ -0,0 +1,126 @@
+package com.example.animal.service.cache;
+
+import com.example.animal.event.DogDetailsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * dog_details 단건 조회용 read-through 캐시.
+ * - 크기 제한(LRU) + TTL 만료
+ * - dog_details 변경 이벤트(커밋 이후)로 무효화
+ * - generation 으로 "무효화 도중 읽어온 오래된 값"이 다시 들어가는 것을 방지
+ */
+@Component
+public class DogDetailsCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<Long, Entry> entries;
+    private long generation = 0;
+
+    public DogDetailsCache(@Value("${app.cache.dog-details.max-size:10000}") int maxSize,
+                           @Value("${app.cache.dog-details.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = Math.max(maxSize, 1);
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > DogDetailsCache.this.maxSize;
+            }
+        };
+    }
+
+    /** 캐시 조회, 없거나 만료면 loader 로 적재 (loader 결과가 비어 있으면 캐시하지 않음) */
+    public Optional<CachedDogDetails> get(Long id, Function<Long, Optional<CachedDogDetails>> loader) {
+        long startGeneration;
+        synchronized (this) {
+            Entry e = entries.get(id);
+            if (e != null) {
+                if (e.expiresAt - System.nanoTime() > 0) {
+                    return Optional.of(e.value);
+                }
+                entries.remove(id);
+            }
+            startGeneration = generation;
+        }
+
+        Optional<CachedDogDetails> loaded = loader.apply(id);
+        loaded.ifPresent(v -> put(id, v, startGeneration));
+        return loaded;
+    }
+
+    /**
+     * 여러 건 조회: 캐시 적중분은 바로, 나머지는 loader 한 번으로 적재.
+     * 반환 맵에는 찾은 id 만 들어 있다 (순서 무관).
+     */
+    public Map<Long, CachedDogDetails> getAll(Collection<Long> ids,
+                                              Function<Collection<Long>, Map<Long, CachedDogDetails>> loader) {
+        Map<Long, CachedDogDetails> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long startGeneration;
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Long id : ids) {
+                Entry e = entries.get(id);
+                if (e != null && e.expiresAt - now > 0) {
+                    found.put(id, e.value);
+                } else {
+                    if (e != null) entries.remove(id);
+                    misses.add(id);
+                }
+            }
+            startGeneration = generation;
+        }
+        if (misses.isEmpty()) return found;
+
+        Map<Long, CachedDogDetails> loaded = loader.apply(misses);
+        synchronized (this) {
+            loaded.forEach((id, v) -> put(id, v, startGeneration));
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    public synchronized void put(Long id, CachedDogDetails value) {
+        put(id, value, generation);
+    }
+
+    private synchronized void put(Long id, CachedDogDetails value, long loadedAtGeneration) {
+        if (loadedAtGeneration != generation) return; // 적재 중 무효화 발생 → 버림
+        entries.put(id, new Entry(value, System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized void invalidate(Iterable<Long> ids) {
+        generation++;
+        for (Long id : ids) entries.remove(id);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDogDetailsChanged(DogDetailsChangedEvent event) {
+        if (event.isAll()) invalidateAll();
+        else invalidate(event.ids());
+    }
+
+    private record Entry(CachedDogDetails value, long expiresAt) {}
+}
@@ -0,0 +1,126 @@
+package com.example.animal.service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 보호소 공공API 응답 캐시 (키: page, size).
+ * - TTL 이내: 그대로 반환
+ * - TTL 경과 ~ stale-while-revalidate 이내: 오래된 값 반환 + 백그라운드 갱신
+ * - 그 이후: 갱신 결과를 기다림, 실패 시 stale-if-error 이내면 오래된 값 반환
+ * - 같은 키의 동시 미스/갱신은 upstream 요청 1건으로 합침(single-flight)
+ * loader 는 비동기(CompletableFuture)라 대기 중에도 요청 스레드를 잡지 않는다.
+ */
+@Slf4j
+@Component
+public class ShelterResponseCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long staleWhileRevalidateNanos;
+    private final long staleIfErrorNanos;
+
+    private final LinkedHashMap<Key, Entry> entries;
+    private final ConcurrentHashMap<Key, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public ShelterResponseCache(@Value("${app.cache.shelters.max-size:200}") int maxSize,
+                                @Value("${app.cache.shelters.ttl-seconds:600}") long ttlSeconds,
+                                @Value("${app.cache.shelters.stale-while-revalidate-seconds:3600}") long swrSeconds,
+                                @Value("${app.cache.shelters.stale-if-error-seconds:86400}") long sieSeconds) {
+        this.maxSize = Math.max(maxSize, 1);
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.staleWhileRevalidateNanos = swrSeconds * 1_000_000_000L;
+        this.staleIfErrorNanos = sieSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > ShelterResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * loader 는 upstream 응답 본문을 비동기로 반환 (실패는 캐시하지 않음).
+     * HTTP 200 이라도 오류 본문(resultCode≠00, XML 오류)은 loader 가 실패로 완료해야 저장되지 않고 stale-if-error 가 적용된다
+     * (ShelterApiClient.fetchPageRawAsync)
+     */
+    public CompletableFuture<String> get(int page, int size, Supplier<CompletableFuture<String>> loader) {
+        Key key = new Key(page, size);
+        Entry e;
+        synchronized (this) {
+            e = entries.get(key);
+        }
+
+        if (e != null) {
+            long age = System.nanoTime() - e.fetchedAt;
+            if (age < ttlNanos) return CompletableFuture.completedFuture(e.body);
+            if (age < ttlNanos + staleWhileRevalidateNanos) {
+                load(key, loader).exceptionally(ex -> {
+                    log.warn("[보호소 캐시] 백그라운드 갱신 실패 page={} size={}: {}", page, size, rootMessage(ex));
+                    return null;
+                });
+                return CompletableFuture.completedFuture(e.body);
+            }
+        }
+
+        return load(key, loader).exceptionallyCompose(ex -> {
+            if (e != null && System.nanoTime() - e.fetchedAt < ttlNanos + staleIfErrorNanos) {
+                log.warn("[보호소 캐시] upstream 실패, 오래된 응답 반환 page={} size={}: {}", page, size, rootMessage(ex));
+                return CompletableFuture.completedFuture(e.body);
+            }
+            return CompletableFuture.failedFuture(ex instanceof CompletionException ce && ce.getCause() != null
+                    ? ce.getCause() : ex);
+        });
+    }
+
+    /** 이미 진행 중인 요청이 있으면 그 결과를 공유 */
+    private CompletableFuture<String> load(Key key, Supplier<CompletableFuture<String>> loader) {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) return running;
+
+        CompletableFuture<String> upstream;
+        try {
+            upstream = loader.get();
+        } catch (RuntimeException ex) {
+            upstream = CompletableFuture.failedFuture(ex);
+        }
+        upstream.whenComplete((body, ex) -> {
+            if (ex == null) {
+                synchronized (this) {
+                    entries.put(key, new Entry(body, System.nanoTime()));
+                }
+            }
+            inFlight.remove(key, mine);
+            if (ex == null) mine.complete(body);
+            else mine.completeExceptionally(ex);
+        });
+        return mine;
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable t = ex;
+        while (t instanceof CompletionException && t.getCause() != null) t = t.getCause();
+        return t.getMessage();
+    }
+
+    private record Key(int page, int size) {}
+
+    private record Entry(String body, long fetchedAt) {}
+}
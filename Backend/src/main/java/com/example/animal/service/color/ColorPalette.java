@@ -0,0 +1,75 @@
+package com.example.animal.service.color;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 털색 표준 팔레트 (비트마스크).
+ * 자유 텍스트 색상("흰색&갈색", "검정(흰)", AI 분류값 "light brown")을 팔레트 비트 조합으로 변환한다.
+ */
+public enum ColorPalette {
+    WHITE, BLACK, BROWN, YELLOW, CREAM, GRAY, RED, PATTERN;
+
+    /** 팔레트 비트 수 (마스크 범위 0 ~ 2^BITS-1) */
+    public static final int BITS = values().length;
+
+    private static final List<Rule> RULES = new ArrayList<>();
+
+    static {
+        // 긴 표현부터 검사하고, 일치한 부분은 지워서 짧은 표현과 중복 매칭되지 않게 한다
+        rule(mask(YELLOW), "light brown", "lightbrown");
+        rule(mask(WHITE, BLACK, BROWN), "삼색", "tricolor", "tri-color");
+        rule(mask(WHITE, BLACK, PATTERN), "바둑");
+        rule(mask(WHITE), "흰", "백", "하양", "하얀", "화이트", "white");
+        rule(mask(BLACK), "검", "흑", "까만", "깜장", "블랙", "black");
+        rule(mask(BROWN), "갈", "브라운", "초코", "쵸코", "밤색", "고동", "brown", "choco");
+        rule(mask(YELLOW), "황", "노랑", "노란", "누렁", "골드", "금색", "옐로", "yellow", "gold");
+        rule(mask(CREAM), "크림", "베이지", "아이보리", "미색", "살구", "애프리콧", "cream", "beige", "apricot");
+        rule(mask(GRAY), "회", "그레이", "은색", "실버", "블루", "쥐색", "gray", "grey", "silver", "blue");
+        rule(mask(RED), "적", "빨", "붉", "레드", "red");
+        rule(mask(PATTERN), "호피", "얼룩", "점박", "브린들", "멀", "brindle", "merle", "spotted");
+        RULES.sort(Comparator.comparingInt((Rule r) -> r.token().length()).reversed());
+    }
+
+    private static void rule(int mask, String... tokens) {
+        for (String t : tokens) RULES.add(new Rule(t, mask));
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int mask(ColorPalette... colors) {
+        int m = 0;
+        for (ColorPalette c : colors) m |= c.bit();
+        return m;
+    }
+
+    /** 자유 텍스트 → 마스크 (인식 못 하면 0) */
+    public static int parse(String text) {
+        if (text == null || text.isBlank()) return 0;
+        StringBuilder s = new StringBuilder(text.toLowerCase(Locale.ROOT));
+        int mask = 0;
+        for (Rule r : RULES) {
+            int i;
+            while ((i = s.indexOf(r.token())) >= 0) {
+                mask |= r.mask();
+                for (int j = i; j < i + r.token().length(); j++) s.setCharAt(j, ' ');
+            }
+        }
+        return mask;
+    }
+
+    /** query 비트를 모두 포함하는 마스크 목록 (IN 조건용, 최대 2^BITS 개) */
+    public static List<Integer> masksContaining(int query) {
+        List<Integer> masks = new ArrayList<>();
+        for (int m = 1; m < (1 << BITS); m++) {
+            if ((m & query) == query) masks.add(m);
+        }
+        return masks;
+    }
+
+    private record Rule(String token, int mask) {}
+}
@@ -0,0 +1,56 @@
+package com.example.animal.service.color;
+
+import com.example.animal.entity.DogDetails;
+import com.example.animal.event.DogDetailsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * color → color_mask (적재 시점 파싱).
+ * 색상 필터는 마스크 포함 관계를 IN 목록으로 바꿔 인덱스 컬럼만 비교한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DogColorService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher publisher;
+
+    /** 적재 경로에서 호출: 색상 마스크 채우기 */
+    public void apply(DogDetails dog) {
+        dog.setColorMask(ColorPalette.parse(dog.getColor()));
+    }
+
+    /** 기존 행 보정 (기동 시 1회, 고유 color 값 단위) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<String> colors = jdbcTemplate.queryForList(
+                "SELECT DISTINCT color FROM dog_details WHERE color IS NOT NULL", String.class);
+
+        List<Object[]> batch = new ArrayList<>(colors.size());
+        for (String color : colors) {
+            int mask = ColorPalette.parse(color);
+            batch.add(new Object[] { mask, color, mask });
+        }
+        if (batch.isEmpty()) return;
+
+        int[] counts = jdbcTemplate.batchUpdate("""
+                UPDATE dog_details SET color_mask = ?
+                WHERE color = ? AND (color_mask IS NULL OR color_mask <> ?)
+                """, batch);
+
+        for (int c : counts) {
+            if (c != 0) {
+                publisher.publishEvent(DogDetailsChangedEvent.all());
+                return;
+            }
+        }
+    }
+}
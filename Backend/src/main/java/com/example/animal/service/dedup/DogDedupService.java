@@ -0,0 +1,281 @@
+package com.example.animal.service.dedup;
+
+import com.example.animal.dto.DedupReportDto;
+import com.example.animal.event.DogDetailsChangedEvent;
+import com.example.animal.util.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보호소 이동 등으로 공고번호만 다른 동일 개체 탐지.
+ * - 정규화 속성(품종/색상/성별/출생연도/발견 주/발견 지역)을 토큰 집합으로 만들어 MinHash 서명 생성
+ * - LSH(밴드 분할) 버킷이 같은 쌍만 후보로 비교 → 전체 쌍 비교(O(n²)) 없음
+ * - 후보는 하드 조건(같은 정규 품종, 다른 보호소, 발견일 차이 등)으로 검증 후 union-find 로 클러스터링
+ * - 병합 시 하드 조건을 두 클러스터 전체 구성원 기준으로 다시 확인 (A~B, B~C 만으로 같은 보호소/60일 차이 A, C 가 묶이지 않게)
+ * - dup_cluster_id: 클러스터 최소 id, dup_primary: 대표(발견일 최신) 여부. 단독 행은 둘 다 null
+ */
+@Slf4j
+@Service
+public class DogDedupService {
+
+    private static final int NUM_HASHES = 24;
+    private static final int BANDS = 8;            // 밴드당 3행 → 유사도 0.5 부근부터 후보로 잡힘
+    private static final int ROWS_PER_BAND = NUM_HASHES / BANDS;
+    private static final int MAX_BUCKET_SIZE = 200; // 이보다 큰 버킷은 너무 일반적인 조합이라 건너뜀
+    private static final double MIN_SIMILARITY = 0.6;
+    private static final int MAX_FOUND_DAYS_APART = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher publisher;
+    private final boolean enabled;
+
+    private final MinHasher minHasher = new MinHasher(NUM_HASHES, 42L);
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DogDedupService(JdbcTemplate jdbcTemplate,
+                           ApplicationEventPublisher publisher,
+                           @Value("${app.dedup.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.publisher = publisher;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${app.dedup.interval-ms:3600000}",
+               initialDelayString = "${app.dedup.initial-delay-ms:120000}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("중복 개체 탐지 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /** 전체 재계산 (동시 실행 시 건너뜀) */
+    public DedupReportDto run() {
+        if (!running.compareAndSet(false, true)) {
+            return new DedupReportDto(0, 0, 0, 0, 0, 0, 0);
+        }
+        try {
+            return doRun();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private DedupReportDto doRun() {
+        long started = System.nanoTime();
+
+        List<Row> rows = jdbcTemplate.query("""
+                SELECT id, species_canonical, color_mask, gender, birth_ym, found_date, lat, lng, shelter_id,
+                       dup_cluster_id, dup_primary
+                FROM dog_details
+                WHERE species_canonical IS NOT NULL AND found_date IS NOT NULL
+                """,
+                (rs, i) -> new Row(
+                        rs.getLong(1), rs.getString(2), (Integer) rs.getObject(3), rs.getString(4),
+                        (Integer) rs.getObject(5), rs.getDate(6).toLocalDate().toEpochDay(),
+                        (Double) rs.getObject(7), (Double) rs.getObject(8), rs.getString(9),
+                        (Long) rs.getObject(10), (Boolean) rs.getObject(11)));
+
+        int n = rows.size();
+        long[][] signatures = new long[n][];
+        for (int i = 0; i < n; i++) signatures[i] = minHasher.signature(tokens(rows.get(i)));
+
+        // LSH: 밴드별 해시 → 같은 버킷 행끼리만 후보
+        Clusters clusters = new Clusters(rows);
+        Set<Long> seenPairs = new HashSet<>();
+        long candidates = 0, matched = 0;
+
+        for (int band = 0; band < BANDS; band++) {
+            Map<Long, List<Integer>> buckets = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                buckets.computeIfAbsent(bandKey(signatures[i], band), k -> new ArrayList<>()).add(i);
+            }
+            for (List<Integer> bucket : buckets.values()) {
+                if (bucket.size() < 2 || bucket.size() > MAX_BUCKET_SIZE) continue;
+                for (int x = 0; x < bucket.size(); x++) {
+                    for (int y = x + 1; y < bucket.size(); y++) {
+                        int a = bucket.get(x), b = bucket.get(y);
+                        if (!seenPairs.add(((long) Math.min(a, b) << 32) | Math.max(a, b))) continue;
+                        candidates++;
+                        if (isDuplicate(rows.get(a), rows.get(b), signatures[a], signatures[b])
+                                && clusters.union(a, b)) {
+                            matched++;
+                        }
+                    }
+                }
+            }
+        }
+
+        // 클러스터별 최소 id / 대표(발견일 최신, 같으면 큰 id)
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < n; i++) groups.computeIfAbsent(clusters.find(i), k -> new ArrayList<>()).add(i);
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Long> changedIds = new ArrayList<>();
+        long clusterCount = 0, duplicates = 0;
+
+        for (List<Integer> members : groups.values()) {
+            Long clusterId = null;
+            int primary = -1;
+            if (members.size() > 1) {
+                clusterCount++;
+                duplicates += members.size() - 1;
+                clusterId = Long.MAX_VALUE;
+                for (int i : members) {
+                    Row r = rows.get(i);
+                    clusterId = Math.min(clusterId, r.id());
+                    if (primary < 0 || r.foundDay() > rows.get(primary).foundDay()
+                            || (r.foundDay() == rows.get(primary).foundDay() && r.id() > rows.get(primary).id())) {
+                        primary = i;
+                    }
+                }
+            }
+            for (int i : members) {
+                Row r = rows.get(i);
+                Boolean isPrimary = clusterId == null ? null : i == primary;
+                if (!Objects.equals(r.dupClusterId(), clusterId) || !Objects.equals(r.dupPrimary(), isPrimary)) {
+                    updates.add(new Object[] { clusterId, isPrimary, r.id() });
+                    changedIds.add(r.id());
+                }
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE dog_details SET dup_cluster_id = ?, dup_primary = ? WHERE id = ?", updates);
+            publisher.publishEvent(DogDetailsChangedEvent.of(changedIds));
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("중복 개체 탐지: rows={}, candidates={}, matched={}, clusters={}, updated={}, {}ms",
+                n, candidates, matched, clusterCount, updates.size(), elapsedMs);
+        return new DedupReportDto(n, candidates, matched, clusterCount, duplicates, updates.size(), elapsedMs);
+    }
+
+    // 정규화 속성 → 토큰. 발견일은 어긋난 두 주 단위로 넣어 며칠 차이는 토큰 하나 이상 공유
+    private List<String> tokens(Row r) {
+        List<String> t = new ArrayList<>();
+        t.add("s:" + r.species());
+        int mask = r.colorMask() == null ? 0 : r.colorMask();
+        if (mask == 0) t.add("c:?");
+        for (int bit = 0; bit < Integer.SIZE; bit++) {
+            if ((mask & (1 << bit)) != 0) t.add("c:" + bit);
+        }
+        if (r.gender() != null) t.add("g:" + r.gender());
+        if (r.birthYm() != null) t.add("b:" + r.birthYm() / 100);
+        t.add("w:" + Math.floorDiv(r.foundDay(), 7));
+        t.add("w3:" + Math.floorDiv(r.foundDay() + 3, 7));
+        if (r.lat() != null && r.lng() != null) {
+            t.add("h4:" + GeoHash.encode(r.lat(), r.lng(), 4));
+            t.add("h5:" + GeoHash.encode(r.lat(), r.lng(), 5));
+        }
+        return t;
+    }
+
+    private boolean isDuplicate(Row a, Row b, long[] sa, long[] sb) {
+        if (!a.species().equals(b.species())) return false;
+        // 같은 보호소의 동일 조건 개체는 한배 새끼 등 별개 개체일 가능성이 높음
+        if (a.shelterId() != null && a.shelterId().equals(b.shelterId())) return false;
+        if (Math.abs(a.foundDay() - b.foundDay()) > MAX_FOUND_DAYS_APART) return false;
+        if (!gendersCompatible(knownGender(a.gender()), knownGender(b.gender()))) return false;
+        if (!colorsCompatible(colorOf(a), colorOf(b))) return false;
+        return MinHasher.similarity(sa, sb) >= MIN_SIMILARITY;
+    }
+
+    // 성별 미상/없음은 null (어느 쪽과도 호환)
+    private static String knownGender(String gender) {
+        return gender == null || "미상".equals(gender) ? null : gender;
+    }
+
+    private static boolean gendersCompatible(String a, String b) {
+        return a == null || b == null || a.equals(b);
+    }
+
+    // 색상 미상은 0 (어느 쪽과도 호환)
+    private static int colorOf(Row r) {
+        return r.colorMask() == null ? 0 : r.colorMask();
+    }
+
+    private static boolean colorsCompatible(int a, int b) {
+        return a == 0 || b == 0 || (a & b) != 0;
+    }
+
+    private static long bandKey(long[] sig, int band) {
+        long h = band;
+        for (int i = band * ROWS_PER_BAND; i < (band + 1) * ROWS_PER_BAND; i++) {
+            h = h * 31 + sig[i];
+        }
+        return h;
+    }
+
+    /**
+     * union-find + 루트별 클러스터 요약 (보호소 집합, 발견일 범위, 확정 성별, 공통 색상 비트).
+     * 병합 전에 두 클러스터 전체가 하드 조건을 만족하는지 요약으로 확인
+     */
+    private static final class Clusters {
+        final int[] parent;
+        final List<Set<String>> shelters;
+        final long[] minDay;
+        final long[] maxDay;
+        final String[] gender;
+        final int[] colors;   // 구성원 색상 마스크 교집합 (0 = 미상)
+
+        Clusters(List<Row> rows) {
+            int n = rows.size();
+            parent = new int[n];
+            shelters = new ArrayList<>(n);
+            minDay = new long[n];
+            maxDay = new long[n];
+            gender = new String[n];
+            colors = new int[n];
+            for (int i = 0; i < n; i++) {
+                Row r = rows.get(i);
+                parent[i] = i;
+                shelters.add(r.shelterId() == null ? new HashSet<>() : new HashSet<>(Set.of(r.shelterId())));
+                minDay[i] = maxDay[i] = r.foundDay();
+                gender[i] = knownGender(r.gender());
+                colors[i] = colorOf(r);
+            }
+        }
+
+        int find(int i) {
+            while (parent[i] != i) {
+                parent[i] = parent[parent[i]];
+                i = parent[i];
+            }
+            return i;
+        }
+
+        /** 병합했거나 이미 같은 클러스터면 true, 클러스터 단위 조건 위반이면 false */
+        boolean union(int a, int b) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) return true;
+            if (Math.max(maxDay[ra], maxDay[rb]) - Math.min(minDay[ra], minDay[rb]) > MAX_FOUND_DAYS_APART) return false;
+            if (!gendersCompatible(gender[ra], gender[rb])) return false;
+            if (!colorsCompatible(colors[ra], colors[rb])) return false;
+            if (!Collections.disjoint(shelters.get(ra), shelters.get(rb))) return false;
+
+            int root = Math.min(ra, rb), child = Math.max(ra, rb);
+            parent[child] = root;
+            shelters.get(root).addAll(shelters.get(child));
+            shelters.set(child, null);
+            minDay[root] = Math.min(minDay[ra], minDay[rb]);
+            maxDay[root] = Math.max(maxDay[ra], maxDay[rb]);
+            if (gender[root] == null) gender[root] = gender[child];
+            if (colors[root] == 0) colors[root] = colors[child];
+            else if (colors[child] != 0) colors[root] &= colors[child];
+            return true;
+        }
+    }
+
+    private record Row(long id, String species, Integer colorMask, String gender, Integer birthYm, long foundDay,
+                       Double lat, Double lng, String shelterId, Long dupClusterId, Boolean dupPrimary) {}
+}
@@ -0,0 +1,51 @@
+package com.example.animal.service.dedup;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * MinHash 서명 (토큰 집합 → long[numHashes]).
+ * 두 서명의 같은 위치 값이 일치할 확률 = 두 집합의 Jaccard 유사도.
+ */
+final class MinHasher {
+
+    private final long[] seeds;
+
+    MinHasher(int numHashes, long seed) {
+        this.seeds = new long[numHashes];
+        long s = seed;
+        for (int i = 0; i < numHashes; i++) {
+            s = mix(s + 0x9E3779B97F4A7C15L);
+            seeds[i] = s;
+        }
+    }
+
+    long[] signature(Collection<String> tokens) {
+        long[] sig = new long[seeds.length];
+        Arrays.fill(sig, Long.MAX_VALUE);
+        for (String token : tokens) {
+            long h = token.hashCode() * 0xC2B2AE3D27D4EB4FL;
+            for (int i = 0; i < seeds.length; i++) {
+                long v = mix(h ^ seeds[i]);
+                if (v < sig[i]) sig[i] = v;
+            }
+        }
+        return sig;
+    }
+
+    /** 추정 Jaccard 유사도 */
+    static double similarity(long[] a, long[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / a.length;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.animal.service.geo;
+
+import com.example.animal.dto.MapClusterDto;
+import com.example.animal.event.DogDetailsChangedEvent;
+import com.example.animal.repository.DogDetailsRepository;
+import com.example.animal.util.GeoDistance;
+import com.example.animal.util.GeoHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유기견 발견 위치 인메모리 공간 인덱스 (geohash 격자 버킷).
+ * - 반경 검색 시 원을 감싸는 셀만 조회 → 전체 스캔 없음
+ * - dog_details 변경 이벤트로 증분 갱신, 전체 변경 시 재적재
+ * - 지도 클러스터용 geohash 접두어 집계(GeoClusterIndex)도 같은 시점에 증분 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class DogGeoIndex {
+
+    /** 버킷 셀 정밀도 (5 ≈ 4.9km x 4.9km) */
+    static final int CELL_PRECISION = 5;
+
+    private final DogDetailsRepository dogDetailsRepository;
+
+    private volatile Grid grid = new Grid();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Grid fresh = new Grid();
+        for (DogLocation loc : dogDetailsRepository.findAllLocations()) {
+            fresh.put(loc.id(), loc.lat(), loc.lng());
+        }
+        grid = fresh;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDogDetailsChanged(DogDetailsChangedEvent event) {
+        if (event.isAll()) {
+            load();
+            return;
+        }
+        Grid g = grid;
+        event.ids().forEach(g::remove);
+        for (DogLocation loc : dogDetailsRepository.findLocationsByIdIn(event.ids())) {
+            g.put(loc.id(), loc.lat(), loc.lng());
+        }
+    }
+
+    /** 반경 내 유기견 id + 거리, 가까운 순 */
+    public List<Hit> nearby(double lat, double lng, double radiusKm, int limit) {
+        double[] box = GeoDistance.boundingBox(lat, lng, radiusKm);
+        Grid g = grid;
+        List<Hit> hits = new ArrayList<>();
+
+        for (String cell : GeoHash.coveringCells(box[0], box[1], box[2], box[3], CELL_PRECISION)) {
+            Map<Long, GeoPoint> bucket = g.cells.get(cell);
+            if (bucket == null) continue;
+            for (Map.Entry<Long, GeoPoint> e : bucket.entrySet()) {
+                GeoPoint p = e.getValue();
+                double d = GeoDistance.haversineKm(lat, lng, p.lat(), p.lng());
+                if (d <= radiusKm) hits.add(new Hit(e.getKey(), d));
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparing(Hit::id, Comparator.reverseOrder()));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    /** 지도 클러스터 (GeoClusterIndex.clusters 참고) */
+    public List<MapClusterDto<Long>> clusters(double minLat, double minLng, double maxLat, double maxLng, int precision) {
+        return grid.clusters.clusters(minLat, minLng, maxLat, maxLng, precision);
+    }
+
+    public int size() {
+        return grid.cellOf.size();
+    }
+
+    public record Hit(Long id, double distanceKm) {}
+
+    private static final class Grid {
+        final Map<String, Map<Long, GeoPoint>> cells = new ConcurrentHashMap<>();
+        final Map<Long, String> cellOf = new ConcurrentHashMap<>();
+        final GeoClusterIndex<Long> clusters = new GeoClusterIndex<>();
+
+        void put(Long id, Double lat, Double lng) {
+            if (lat == null || lng == null) return;
+            remove(id);
+            String cell = GeoHash.encode(lat, lng, CELL_PRECISION);
+            cells.computeIfAbsent(cell, k -> new ConcurrentHashMap<>()).put(id, new GeoPoint(lat, lng));
+            cellOf.put(id, cell);
+            clusters.put(id, lat, lng);
+        }
+
+        void remove(Long id) {
+            clusters.remove(id);
+            String cell = cellOf.remove(id);
+            if (cell == null) return;
+            Map<Long, GeoPoint> bucket = cells.get(cell);
+            if (bucket != null) bucket.remove(id);
+        }
+    }
+}
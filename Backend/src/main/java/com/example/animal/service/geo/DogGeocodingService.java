@@ -0,0 +1,77 @@
+package com.example.animal.service.geo;
+
+import com.example.animal.entity.DogDetails;
+import com.example.animal.event.DogDetailsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발견장소 → 좌표 (적재 시점 지오코딩).
+ * 오프라인 지명 사전만 사용하므로 외부 호출/쿼터 없음.
+ */
+@Service
+@RequiredArgsConstructor
+public class DogGeocodingService {
+
+    private static final int BACKFILL_BATCH = 1000;
+
+    private final KoreanGazetteer gazetteer;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher publisher;
+
+    /** 적재 경로에서 호출: 좌표 채우기 */
+    public void apply(DogDetails dog) {
+        gazetteer.geocode(dog.getFoundLocation(), dog.getJurisd()).ifPresent(p -> {
+            dog.setLat(p.lat());
+            dog.setLng(p.lng());
+        });
+    }
+
+    /**
+     * 좌표가 없는 기존 행 보정 (기동 시 1회).
+     * 사전에 없는 장소는 geocode_failed_at 을 기록해 다음 기동부터 건너뜀 (사전 보강 후 다시 돌리려면 컬럼을 비움)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissing() {
+        long lastId = 0;
+        int updated = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    """
+                    SELECT id, found_location, jurisd FROM dog_details
+                    WHERE lat IS NULL AND geocode_failed_at IS NULL AND id > ? ORDER BY id LIMIT ?
+                    """,
+                    (rs, i) -> new Object[] { rs.getLong(1), rs.getString(2), rs.getString(3) },
+                    lastId, BACKFILL_BATCH);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> batch = new ArrayList<>();
+            List<Object[]> failed = new ArrayList<>();
+            for (Object[] r : rows) {
+                lastId = (Long) r[0];
+                gazetteer.geocode((String) r[1], (String) r[2]).ifPresentOrElse(
+                        p -> batch.add(new Object[] { p.lat(), p.lng(), r[0] }),
+                        () -> failed.add(new Object[] { r[0] }));
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE dog_details SET lat = ?, lng = ? WHERE id = ?", batch);
+                updated += batch.size();
+            }
+            if (!failed.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE dog_details SET geocode_failed_at = NOW() WHERE id = ?", failed);
+            }
+        }
+
+        if (updated > 0) {
+            publisher.publishEvent(DogDetailsChangedEvent.all());
+        }
+    }
+}
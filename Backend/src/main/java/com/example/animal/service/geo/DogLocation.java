@@ -0,0 +1,5 @@
+package com.example.animal.service.geo;
+
+/** 공간 인덱스 적재용 (id, 좌표) — JPQL 생성자 표현식으로 조회 */
+public record DogLocation(Long id, Double lat, Double lng) {
+}
@@ -0,0 +1,158 @@
+package com.example.animal.service.geo;
+
+import com.example.animal.dto.MapClusterDto;
+import com.example.animal.util.GeoHash;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * geohash 접두어 버킷 집계 (지도 클러스터용).
+ * - 자리수 MIN_PRECISION~MAX_PRECISION 마다 셀별 개수/좌표 합/대표 id 를 유지 → 조회는 영역의 셀만 읽음
+ * - 추가/삭제 시 각 자리수의 버킷 하나씩만 갱신 (증분)
+ * - 대표 id 는 큰 값 상위 MAX_REPRESENTATIVES 개, 대표가 빠지면 한 자리 아래 버킷들의 대표(최하위는 셀 멤버)에서 다시 채움
+ * - 버킷은 불변 객체로 교체하므로 조회는 잠금 없이, 쓰기만 직렬화
+ */
+public final class GeoClusterIndex<K extends Comparable<K>> {
+
+    public static final int MIN_PRECISION = 2;   // ≈ 1250km x 625km
+    public static final int MAX_PRECISION = 7;   // ≈ 153m x 153m
+    static final int MAX_REPRESENTATIVES = 3;
+
+    private final List<ConcurrentSkipListMap<String, Bucket<K>>> levels = new ArrayList<>();
+    private final Map<String, Map<K, GeoPoint>> cells = new ConcurrentHashMap<>(); // MAX_PRECISION 셀 멤버
+    private final Map<K, GeoPoint> points = new ConcurrentHashMap<>();
+
+    public GeoClusterIndex() {
+        for (int p = MIN_PRECISION; p <= MAX_PRECISION; p++) {
+            levels.add(new ConcurrentSkipListMap<>());
+        }
+    }
+
+    public synchronized void put(K id, double lat, double lng) {
+        remove(id);
+        GeoPoint point = new GeoPoint(lat, lng);
+        String hash = GeoHash.encode(lat, lng, MAX_PRECISION);
+        points.put(id, point);
+        cells.computeIfAbsent(hash, k -> new ConcurrentHashMap<>()).put(id, point);
+        for (int p = MIN_PRECISION; p <= MAX_PRECISION; p++) {
+            level(p).compute(hash.substring(0, p), (k, b) -> b == null ? Bucket.of(id, point) : b.plus(id, point));
+        }
+    }
+
+    public synchronized void remove(K id) {
+        GeoPoint point = points.remove(id);
+        if (point == null) return;
+        String hash = GeoHash.encode(point.lat(), point.lng(), MAX_PRECISION);
+        Map<K, GeoPoint> members = cells.get(hash);
+        if (members != null) {
+            members.remove(id);
+            if (members.isEmpty()) cells.remove(hash);
+        }
+        // 아래 자리수부터 갱신해야 위 버킷이 대표를 다시 채울 때 최신 하위 대표를 씀
+        for (int p = MAX_PRECISION; p >= MIN_PRECISION; p--) {
+            String key = hash.substring(0, p);
+            Bucket<K> b = level(p).get(key);
+            if (b == null) continue;
+            if (b.count <= 1) {
+                level(p).remove(key);
+                continue;
+            }
+            Bucket<K> next = b.minus(id, point);
+            if (next.ids.size() < Math.min(MAX_REPRESENTATIVES, next.count)) {
+                next = next.withIds(topIds(p == MAX_PRECISION ? cells.getOrDefault(hash, Map.of()).keySet()
+                        : childIds(p, key)));
+            }
+            level(p).put(key, next);
+        }
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /** 위경도 박스와 겹치는 precision 자리 셀의 클러스터 (경계 셀은 박스 밖 좌표도 포함) */
+    public List<MapClusterDto<K>> clusters(double minLat, double minLng, double maxLat, double maxLng, int precision) {
+        int p = Math.min(Math.max(precision, MIN_PRECISION), MAX_PRECISION);
+        Map<String, Bucket<K>> level = level(p);
+        List<MapClusterDto<K>> out = new ArrayList<>();
+        for (String cell : GeoHash.coveringCells(minLat, minLng, maxLat, maxLng, p)) {
+            Bucket<K> b = level.get(cell);
+            if (b == null) continue;
+            out.add(new MapClusterDto<>(cell, b.count, round6(b.sumLat / b.count), round6(b.sumLng / b.count), b.ids));
+        }
+        return out;
+    }
+
+    /** 줌 레벨 → geohash 자리수, 박스를 덮는 셀 수가 maxCells 를 넘으면 자리수를 낮춤 (응답 크기 상한) */
+    public static int precisionFor(int zoom, double minLat, double minLng, double maxLat, double maxLng, int maxCells) {
+        int p = Math.min(Math.max((zoom - 1) / 2, MIN_PRECISION), MAX_PRECISION);
+        while (p > MIN_PRECISION && cellCount(minLat, minLng, maxLat, maxLng, p) > maxCells) p--;
+        return p;
+    }
+
+    // geohash 격자는 (-90, -180) 기준으로 정렬되어 있어 행/열 수를 바로 계산
+    static long cellCount(double minLat, double minLng, double maxLat, double maxLng, int precision) {
+        double h = GeoHash.cellHeightDeg(precision);
+        double w = GeoHash.cellWidthDeg(precision);
+        long rows = (long) Math.floor((maxLat + 90) / h) - (long) Math.floor((minLat + 90) / h) + 1;
+        long cols = (long) Math.floor((maxLng + 180) / w) - (long) Math.floor((minLng + 180) / w) + 1;
+        return rows * cols;
+    }
+
+    private ConcurrentSkipListMap<String, Bucket<K>> level(int precision) {
+        return levels.get(precision - MIN_PRECISION);
+    }
+
+    // 한 자리 아래 자식 버킷들의 대표 id (부모 상위 N 개는 반드시 이 안에 있음)
+    private List<K> childIds(int precision, String key) {
+        List<K> ids = new ArrayList<>();
+        for (Bucket<K> child : level(precision + 1).subMap(key, key + Character.MAX_VALUE).values()) {
+            ids.addAll(child.ids);
+        }
+        return ids;
+    }
+
+    private static <K extends Comparable<K>> List<K> topIds(Collection<K> candidates) {
+        return candidates.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(MAX_REPRESENTATIVES)
+                .toList();
+    }
+
+    private static double round6(double v) {
+        return Math.round(v * 1_000_000) / 1_000_000.0;
+    }
+
+    /** 불변 버킷 (ids: 내림차순 대표 id) */
+    private record Bucket<K extends Comparable<K>>(int count, double sumLat, double sumLng, List<K> ids) {
+
+        static <K extends Comparable<K>> Bucket<K> of(K id, GeoPoint p) {
+            return new Bucket<>(1, p.lat(), p.lng(), List.of(id));
+        }
+
+        Bucket<K> plus(K id, GeoPoint p) {
+            List<K> next = ids;
+            if (ids.size() < MAX_REPRESENTATIVES || id.compareTo(ids.get(ids.size() - 1)) > 0) {
+                List<K> merged = new ArrayList<>(ids);
+                merged.add(id);
+                next = topIds(merged);
+            }
+            return new Bucket<>(count + 1, sumLat + p.lat(), sumLng + p.lng(), next);
+        }
+
+        Bucket<K> minus(K id, GeoPoint p) {
+            List<K> next = ids.contains(id) ? ids.stream().filter(x -> !x.equals(id)).toList() : ids;
+            return new Bucket<>(count - 1, sumLat - p.lat(), sumLng - p.lng(), next);
+        }
+
+        Bucket<K> withIds(List<K> next) {
+            return new Bucket<>(count, sumLat, sumLng, next);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.animal.service.geo;
+
+public record GeoPoint(double lat, double lng) {
+}
@@ -0,0 +1,121 @@
+package com.example.animal.service.geo;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 오프라인 행정구역 지명 사전 (classpath:geo/kr-districts.csv).
+ * 발견장소/관할기관 문자열에서 시도·시군구를 찾아 대표 좌표를 돌려준다.
+ * 외부 지오코딩 API 호출 없음.
+ */
+@Component
+public class KoreanGazetteer {
+
+    private static final String RESOURCE = "geo/kr-districts.csv";
+
+    // 시도 별칭(서울, 서울시, 경기, 전북 ...) → 정식 시도명
+    private static final Map<String, String> SIDO_ALIASES = new HashMap<>();
+
+    static {
+        alias("서울특별시", "서울", "서울시");
+        alias("부산광역시", "부산", "부산시");
+        alias("대구광역시", "대구", "대구시");
+        alias("인천광역시", "인천", "인천시");
+        alias("광주광역시", "광주");
+        alias("대전광역시", "대전", "대전시");
+        alias("울산광역시", "울산", "울산시");
+        alias("세종특별자치시", "세종", "세종시");
+        alias("경기도", "경기");
+        alias("강원특별자치도", "강원", "강원도");
+        alias("충청북도", "충북");
+        alias("충청남도", "충남");
+        alias("전북특별자치도", "전북", "전라북도");
+        alias("전라남도", "전남");
+        alias("경상북도", "경북");
+        alias("경상남도", "경남");
+        alias("제주특별자치도", "제주", "제주도");
+    }
+
+    private static void alias(String sido, String... aliases) {
+        SIDO_ALIASES.put(sido, sido);
+        for (String a : aliases) SIDO_ALIASES.put(a, sido);
+    }
+
+    private final Map<String, GeoPoint> sidoPoints = new HashMap<>();
+    // 시군구명 → (시도명 → 좌표). "중구", "고성군"처럼 여러 시도에 같은 이름이 있음
+    private final Map<String, Map<String, GeoPoint>> sigunguPoints = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] cols = line.split(",", -1);
+                GeoPoint p = new GeoPoint(Double.parseDouble(cols[2]), Double.parseDouble(cols[3]));
+                if (cols[1].isEmpty()) {
+                    sidoPoints.put(cols[0], p);
+                } else {
+                    sigunguPoints.computeIfAbsent(cols[1], k -> new HashMap<>()).put(cols[0], p);
+                }
+            }
+        }
+    }
+
+    /**
+     * 주어진 문자열들(앞쪽이 더 구체적)에서 좌표 추정.
+     * 시군구 매칭 > 시도 대표 좌표 순. 찾지 못하면 empty.
+     */
+    public Optional<GeoPoint> geocode(String... texts) {
+        String sido = null;
+        List<String> sigungus = new ArrayList<>();
+
+        for (String text : texts) {
+            if (text == null || text.isBlank()) continue;
+            for (String token : text.split("[\\s,()\\[\\]/·]+")) {
+                if (token.isEmpty()) continue;
+                String s = SIDO_ALIASES.get(token);
+                if (s != null) {
+                    if (sido == null) sido = s;
+                    continue;
+                }
+                if (sigunguPoints.containsKey(token)) sigungus.add(token);
+            }
+        }
+
+        // 띄어쓰기 없이 붙어 쓴 경우("화성시향남읍") → 3글자 이상 시군구명 포함 검사
+        if (sigungus.isEmpty()) {
+            for (String text : texts) {
+                if (text == null || text.isBlank()) continue;
+                for (String name : sigunguPoints.keySet()) {
+                    if (name.length() >= 3 && text.contains(name)) sigungus.add(name);
+                }
+                if (!sigungus.isEmpty()) break;
+            }
+        }
+
+        for (String name : sigungus) {
+            Map<String, GeoPoint> bySido = sigunguPoints.get(name);
+            if (sido != null) {
+                GeoPoint p = bySido.get(sido);
+                if (p != null) return Optional.of(p);
+            } else if (bySido.size() == 1) {
+                return Optional.of(bySido.values().iterator().next());
+            }
+        }
+
+        if (sido != null) {
+            // 세종처럼 시군구가 없는 시도, 혹은 시군구 모호 → 시도 대표 좌표
+            return Optional.ofNullable(sidoPoints.get(sido));
+        }
+        return Optional.empty();
+    }
+}
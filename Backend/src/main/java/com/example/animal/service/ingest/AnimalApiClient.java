@@ -0,0 +1,93 @@
+package com.example.animal.service.ingest;
+
+import com.example.animal.dto.openapi.AnimalApiItemDto;
+import com.example.animal.dto.openapi.AnimalApiPage;
+import com.example.animal.service.quota.PublicApiQuotaGovernor;
+import com.example.animal.service.quota.QuotaPriority;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/** 공공데이터 구조동물 조회 API 클라이언트 (개만 조회) */
+@Component
+public class AnimalApiClient {
+
+    private static final String UPKIND_DOG = "417000";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final PublicApiQuotaGovernor quotaGovernor;
+    private final String apiUrl;
+    private final String serviceKey;
+
+    public AnimalApiClient(RestTemplateBuilder builder,
+                           ObjectMapper objectMapper,
+                           PublicApiQuotaGovernor quotaGovernor,
+                           @Value("${openapi.animal.url}") String apiUrl,
+                           @Value("${openapi.animal.service-key}") String serviceKey) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(30))
+                .build();
+        this.objectMapper = objectMapper;
+        this.quotaGovernor = quotaGovernor;
+        this.apiUrl = apiUrl;
+        this.serviceKey = serviceKey;
+    }
+
+    /**
+     * params: bgnde/endde(yyyyMMdd) 등 추가 검색 조건.
+     * priority: 스케줄 작업은 BACKGROUND(사용자 몫 예산을 남김), 관리자가 직접 실행한 적재/동기화는 USER.
+     */
+    public AnimalApiPage fetchPage(int pageNo, int numOfRows, Map<String, String> params, QuotaPriority priority) {
+        // serviceKey는 이미 인코딩된 값이므로 그대로 붙임
+        StringBuilder url = new StringBuilder(apiUrl)
+                .append("?serviceKey=").append(serviceKey)
+                .append("&_type=json")
+                .append("&upkind=").append(UPKIND_DOG)
+                .append("&pageNo=").append(pageNo)
+                .append("&numOfRows=").append(numOfRows);
+        params.forEach((k, v) -> url.append('&').append(k).append('=').append(v));
+
+        quotaGovernor.acquire(PublicApiQuotaGovernor.ANIMAL, priority);
+        String body = restTemplate.getForObject(URI.create(url.toString()), String.class);
+        return parse(body);
+    }
+
+    AnimalApiPage parse(String body) {
+        try {
+            JsonNode root = objectMapper.readTree(body == null ? "{}" : body);
+            JsonNode header = root.path("response").path("header");
+            String resultCode = header.path("resultCode").asText("00");
+            if (!"00".equals(resultCode) && !"0".equals(resultCode)) {
+                throw new IllegalStateException("구조동물 API 오류: " + resultCode + " " + header.path("resultMsg").asText());
+            }
+
+            JsonNode bodyNode = root.path("response").path("body");
+            int totalCount = bodyNode.path("totalCount").asInt(0);
+
+            // items 가 "" 이거나 item 이 단일 객체로 오는 경우 모두 처리
+            JsonNode item = bodyNode.path("items").path("item");
+            List<AnimalApiItemDto> items = new ArrayList<>();
+            if (item.isArray()) {
+                for (JsonNode n : item) items.add(objectMapper.treeToValue(n, AnimalApiItemDto.class));
+            } else if (item.isObject()) {
+                items.add(objectMapper.treeToValue(item, AnimalApiItemDto.class));
+            }
+            return new AnimalApiPage(items, totalCount);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("구조동물 API 응답 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.animal.service.ingest;
+
+import com.example.animal.dto.IngestReportDto;
+import com.example.animal.dto.openapi.AnimalApiItemDto;
+import com.example.animal.dto.openapi.AnimalApiPage;
+import com.example.animal.entity.DogDetails;
+import com.example.animal.event.DogDetailsChangedEvent;
+import com.example.animal.repository.DogDetailsArchiveRepository;
+import com.example.animal.repository.DogDetailsRepository;
+import com.example.animal.service.quota.QuotaPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 구조동물 API → dog_details 전체 재적재.
+ * - 페이지 단위로 받아서 바로 쓰고 버림 (전체를 메모리에 쌓지 않음)
+ * - 기존 공고번호는 시작 시 한 번만 Set 으로 로드 (행마다 exists 쿼리 없음)
+ * - chunk 단위 배치 upsert
+ */
+@Service
+public class DogDetailsBulkLoader {
+
+    private final AnimalApiClient animalApiClient;
+    private final DogDetailsIngestMapper mapper;
+    private final DogDetailsUpsertWriter writer;
+    private final DogDetailsRepository dogDetailsRepository;
+    private final DogDetailsArchiveRepository archiveRepository;
+    private final ApplicationEventPublisher publisher;
+
+    private final int pageSize;
+    private final int chunkSize;
+    private final int lookbackDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DogDetailsBulkLoader(AnimalApiClient animalApiClient,
+                                DogDetailsIngestMapper mapper,
+                                DogDetailsUpsertWriter writer,
+                                DogDetailsRepository dogDetailsRepository,
+                                DogDetailsArchiveRepository archiveRepository,
+                                ApplicationEventPublisher publisher,
+                                @Value("${app.ingest.page-size:1000}") int pageSize,
+                                @Value("${app.ingest.chunk-size:1000}") int chunkSize,
+                                @Value("${app.ingest.lookback-days:365}") int lookbackDays) {
+        this.animalApiClient = animalApiClient;
+        this.mapper = mapper;
+        this.writer = writer;
+        this.dogDetailsRepository = dogDetailsRepository;
+        this.archiveRepository = archiveRepository;
+        this.publisher = publisher;
+        this.pageSize = pageSize;
+        this.chunkSize = chunkSize;
+        this.lookbackDays = lookbackDays;
+    }
+
+    /** 관리자 수동 실행 전용 → 사용자 요청과 같은 우선순위로 호출 */
+    public IngestReportDto reloadAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 적재가 진행 중입니다.");
+        }
+        try {
+            return doReload();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private IngestReportDto doReload() {
+        long started = System.nanoTime();
+        Set<String> existing = new HashSet<>(dogDetailsRepository.findAllNumbers());
+        // 이미 보관된 종료 공고는 다시 적재하지 않음
+        Set<String> archived = new HashSet<>(archiveRepository.findAllNumbers());
+        Set<String> seen = new HashSet<>();
+
+        LocalDate today = LocalDate.now();
+        Map<String, String> params = Map.of(
+                "bgnde", today.minusDays(lookbackDays).format(DateTimeFormatter.BASIC_ISO_DATE),
+                "endde", today.format(DateTimeFormatter.BASIC_ISO_DATE));
+
+        long fetched = 0, inserted = 0, updated = 0, skipped = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int pageNo = 1; ; pageNo++) {
+            AnimalApiPage page = animalApiClient.fetchPage(pageNo, pageSize, params, QuotaPriority.USER);
+            fetched += page.items().size();
+
+            List<DogDetails> rows = new ArrayList<>(page.items().size());
+            for (AnimalApiItemDto item : page.items()) {
+                DogDetails dog = mapper.toEntity(item, now);
+                if (dog.getNumber() == null || !seen.add(dog.getNumber()) || archived.contains(dog.getNumber())) {
+                    skipped++;
+                    continue;
+                }
+                if (existing.contains(dog.getNumber())) updated++;
+                else inserted++;
+                rows.add(dog);
+            }
+            writer.upsert(rows, chunkSize);
+
+            if (page.items().isEmpty() || (long) pageNo * pageSize >= page.totalCount()) break;
+        }
+
+        publisher.publishEvent(DogDetailsChangedEvent.all());
+
+        long elapsedMs = Math.max((System.nanoTime() - started) / 1_000_000, 1);
+        double rowsPerSec = Math.round((inserted + updated) * 1000.0 / elapsedMs * 10) / 10.0;
+        return new IngestReportDto(fetched, inserted, updated, skipped, elapsedMs, rowsPerSec);
+    }
+}
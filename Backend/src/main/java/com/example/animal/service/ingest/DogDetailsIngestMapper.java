@@ -0,0 +1,106 @@
+package com.example.animal.service.ingest;
+
+import com.example.animal.dto.openapi.AnimalApiItemDto;
+import com.example.animal.entity.DogDetails;
+import com.example.animal.service.age.DogAgeService;
+import com.example.animal.service.breed.DogBreedCanonicalService;
+import com.example.animal.service.color.DogColorService;
+import com.example.animal.service.geo.DogGeocodingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/** 구조동물 API item → DogDetails (저장 전 파생 컬럼까지 채움) */
+@Component
+@RequiredArgsConstructor
+public class DogDetailsIngestMapper {
+
+    private static final DateTimeFormatter YMD = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final DogGeocodingService geocodingService;
+    private final DogBreedCanonicalService breedCanonicalService;
+    private final DogColorService colorService;
+    private final DogAgeService ageService;
+
+    public DogDetails toEntity(AnimalApiItemDto item, LocalDateTime now) {
+        DogDetails dog = DogDetails.builder()
+                .number(firstNonBlank(item.getNoticeNo(), item.getDesertionNo()))
+                .species(species(item))
+                .gender(gender(item.getSexCd()))
+                .age(item.getAge())
+                .color(item.getColorCd())
+                .neutYn(item.getNeuterYn())
+                .jurisd(item.getOrgNm())
+                .foundDate(parseDate(item.getHappenDt()))
+                .foundLocation(item.getHappenPlace())
+                .state(item.getProcessState())
+                .imagePath(item.getPopfile1())
+                .shelterId(item.getCareRegNo())
+                .createdAt(now)
+                .build();
+
+        geocodingService.apply(dog);
+        breedCanonicalService.apply(dog);
+        colorService.apply(dog);
+        ageService.apply(dog);
+        return dog;
+    }
+
+    // v2: kindNm("믹스견"), v1: kindCd("[개] 믹스견")
+    private String species(AnimalApiItemDto item) {
+        String raw = firstNonBlank(item.getKindNm(), item.getKindCd(), item.getKindFullNm());
+        if (raw == null) return null;
+        return raw.replaceFirst("^\\[개]\\s*", "").trim();
+    }
+
+    private String gender(String sexCd) {
+        if (sexCd == null) return null;
+        return switch (sexCd.trim()) {
+            case "M" -> "수컷";
+            case "F" -> "암컷";
+            default -> "미상";
+        };
+    }
+
+    static LocalDate parseDate(String yyyyMMdd) {
+        if (yyyyMMdd == null || yyyyMMdd.isBlank()) return null;
+        try {
+            return LocalDate.parse(yyyyMMdd.trim(), YMD);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /** 수정일시("2025-02-24 13:38:53.0" 등)·공고일("20250224") → LocalDateTime, 실패 시 null */
+    static LocalDateTime parseTimestamp(String value) {
+        if (value == null) return null;
+        String digits = value.replaceAll("\\D", "");
+        try {
+            if (digits.length() >= 14) {
+                return LocalDateTime.parse(digits.substring(0, 14), DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+            }
+            if (digits.length() >= 8) {
+                return LocalDate.parse(digits.substring(0, 8), YMD).atStartOfDay();
+            }
+        } catch (DateTimeParseException ignored) {
+        }
+        return null;
+    }
+
+    /** 변경 기준 시각: 수정일시 우선, 없으면 공고 시작일 */
+    public static LocalDateTime changedAt(AnimalApiItemDto item) {
+        LocalDateTime upd = parseTimestamp(item.getUpdTm());
+        return upd != null ? upd : parseTimestamp(item.getNoticeSdt());
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String v : values) {
+            if (v != null && !v.isBlank()) return v.trim();
+        }
+        return null;
+    }
+}
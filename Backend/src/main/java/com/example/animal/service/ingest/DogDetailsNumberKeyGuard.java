@@ -0,0 +1,62 @@
+package com.example.animal.service.ingest;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+/**
+ * uk_dog_details_number 확인 (기동 시, 스키마 갱신 후).
+ * 공고번호 upsert(ON DUPLICATE KEY)는 이 unique 키가 있어야만 갱신으로 동작하고, 없으면 동기화마다 중복 행이 쌓인다.
+ * - 제약이 없으면 db/dedup-dog-details-number.sql (중복 제거 → 제약 추가) 실행
+ * - 그래도 없거나 migrate-on-startup=false 면 기동 실패
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class DogDetailsNumberKeyGuard {
+
+    static final String CONSTRAINT = "uk_dog_details_number";
+    private static final String MIGRATION = "db/dedup-dog-details-number.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean migrateOnStartup;
+
+    public DogDetailsNumberKeyGuard(JdbcTemplate jdbcTemplate,
+                                    @Value("${app.ingest.number-key.migrate-on-startup:true}") boolean migrateOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @PostConstruct
+    void verify() {
+        if (hasConstraint()) return;
+        if (!migrateOnStartup) {
+            throw new IllegalStateException("dog_details 에 " + CONSTRAINT + " 제약이 없습니다. "
+                    + MIGRATION + " 을 실행한 뒤 다시 기동하세요.");
+        }
+
+        Long duplicates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) - COUNT(DISTINCT number) FROM dog_details WHERE number IS NOT NULL", Long.class);
+        log.warn("dog_details 에 {} 제약이 없어 {} 실행 (중복 공고 {}건 정리)", CONSTRAINT, MIGRATION, duplicates);
+        new ResourceDatabasePopulator(new ClassPathResource(MIGRATION)).execute(jdbcTemplate.getDataSource());
+
+        if (!hasConstraint()) {
+            throw new IllegalStateException("dog_details " + CONSTRAINT + " 제약 추가에 실패했습니다. " + MIGRATION + " 을 확인하세요.");
+        }
+    }
+
+    // number 로 시작하는 unique 인덱스 (파티션 적용 후의 (number, found_date) 포함)
+    private boolean hasConstraint() {
+        Integer n = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'dog_details'
+                  AND INDEX_NAME = ? AND NON_UNIQUE = 0 AND SEQ_IN_INDEX = 1 AND COLUMN_NAME = 'number'
+                """, Integer.class, CONSTRAINT);
+        return n != null && n > 0;
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.animal.service.ingest;
+
+import com.example.animal.dto.SyncReportDto;
+import com.example.animal.dto.openapi.AnimalApiItemDto;
+import com.example.animal.dto.openapi.AnimalApiPage;
+import com.example.animal.dto.projection.DogNumberStateProjection;
+import com.example.animal.entity.DogDetails;
+import com.example.animal.entity.SyncWatermark;
+import com.example.animal.event.DogDetailsChangedEvent;
+import com.example.animal.repository.DogDetailsArchiveRepository;
+import com.example.animal.repository.DogDetailsRepository;
+import com.example.animal.repository.SyncWatermarkRepository;
+import com.example.animal.service.quota.QuotaPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구조동물 API 증분 동기화.
+ * - 소스별 워터마크(마지막 반영 수정일시) 이후 변경분만 조회/반영
+ * - 배치 upsert 후 변경된 id 로 이벤트 발행 → 캐시/인덱스 갱신
+ * - 지연(lag: 마지막 성공 이후 경과 시간), 반영 건수, 상태 전이 수를 메트릭으로 노출
+ */
+@Slf4j
+@Service
+public class DogDetailsSyncService {
+
+    static final String SOURCE = "animal-api";
+
+    private final AnimalApiClient animalApiClient;
+    private final DogDetailsIngestMapper mapper;
+    private final DogDetailsUpsertWriter writer;
+    private final DogDetailsRepository dogDetailsRepository;
+    private final DogDetailsArchiveRepository archiveRepository;
+    private final SyncWatermarkRepository watermarkRepository;
+    private final ApplicationEventPublisher publisher;
+
+    private final boolean enabled;
+    private final int pageSize;
+    private final int chunkSize;
+    private final int overlapDays;
+    private final int initialLookbackDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastRunRows = new AtomicLong();
+    private volatile LocalDateTime lastSuccessAt;
+
+    private final Counter appliedCounter;
+    private final Counter insertedCounter;
+    private final Counter transitionCounter;
+    private final Counter failureCounter;
+    private final Timer runTimer;
+
+    public DogDetailsSyncService(AnimalApiClient animalApiClient,
+                                 DogDetailsIngestMapper mapper,
+                                 DogDetailsUpsertWriter writer,
+                                 DogDetailsRepository dogDetailsRepository,
+                                 DogDetailsArchiveRepository archiveRepository,
+                                 SyncWatermarkRepository watermarkRepository,
+                                 ApplicationEventPublisher publisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.sync.dog-details.enabled:false}") boolean enabled,
+                                 @Value("${app.ingest.page-size:1000}") int pageSize,
+                                 @Value("${app.ingest.chunk-size:1000}") int chunkSize,
+                                 @Value("${app.sync.dog-details.overlap-days:1}") int overlapDays,
+                                 @Value("${app.ingest.lookback-days:365}") int initialLookbackDays) {
+        this.animalApiClient = animalApiClient;
+        this.mapper = mapper;
+        this.writer = writer;
+        this.dogDetailsRepository = dogDetailsRepository;
+        this.archiveRepository = archiveRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.publisher = publisher;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.chunkSize = chunkSize;
+        this.overlapDays = overlapDays;
+        this.initialLookbackDays = initialLookbackDays;
+
+        this.appliedCounter = Counter.builder("dog_details.sync.rows")
+                .tag("result", "applied").register(meterRegistry);
+        this.insertedCounter = Counter.builder("dog_details.sync.rows")
+                .tag("result", "inserted").register(meterRegistry);
+        this.transitionCounter = Counter.builder("dog_details.sync.state_transitions").register(meterRegistry);
+        this.failureCounter = Counter.builder("dog_details.sync.failures").register(meterRegistry);
+        this.runTimer = Timer.builder("dog_details.sync.duration").register(meterRegistry);
+        Gauge.builder("dog_details.sync.lag.seconds", this, DogDetailsSyncService::lagSeconds)
+                .register(meterRegistry);
+        Gauge.builder("dog_details.sync.last_run.rows", lastRunRows, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWatermark() {
+        watermarkRepository.findById(SOURCE).ifPresent(m -> lastSuccessAt = m.getLastRunAt());
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.dog-details.interval-ms:600000}",
+               initialDelayString = "${app.sync.dog-details.initial-delay-ms:60000}")
+    public void scheduledSync() {
+        if (!enabled) return;
+        try {
+            sync(QuotaPriority.BACKGROUND);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("구조동물 증분 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /** 관리자 수동 실행: 사용자 요청과 같은 우선순위로 호출 */
+    public SyncReportDto sync() {
+        return sync(QuotaPriority.USER);
+    }
+
+    public SyncReportDto sync(QuotaPriority priority) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 동기화가 진행 중입니다.");
+        }
+        try {
+            return runTimer.record(() -> doSync(priority));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private SyncReportDto doSync(QuotaPriority priority) {
+        long started = System.nanoTime();
+        SyncWatermark mark = watermarkRepository.findById(SOURCE)
+                .orElseGet(() -> SyncWatermark.builder().source(SOURCE).build());
+        LocalDateTime watermark = mark.getWatermark();
+
+        Map<String, String> params = requestParams(watermark);
+        LocalDateTime newWatermark = watermark;
+        LocalDateTime now = LocalDateTime.now();
+        long fetched = 0, applied = 0, inserted = 0, transitions = 0;
+        Set<String> seen = new HashSet<>();
+
+        for (int pageNo = 1; ; pageNo++) {
+            AnimalApiPage page = animalApiClient.fetchPage(pageNo, pageSize, params, priority);
+            fetched += page.items().size();
+
+            List<DogDetails> rows = new ArrayList<>();
+            for (AnimalApiItemDto item : page.items()) {
+                LocalDateTime changedAt = DogDetailsIngestMapper.changedAt(item);
+                // 겹침 구간에서 다시 받은 "이미 반영한" 변경은 건너뜀
+                if (watermark != null && changedAt != null && changedAt.isBefore(watermark)) continue;
+
+                DogDetails dog = mapper.toEntity(item, now);
+                if (dog.getNumber() == null || !seen.add(dog.getNumber())) continue;
+                rows.add(dog);
+                if (changedAt != null && (newWatermark == null || changedAt.isAfter(newWatermark))) {
+                    newWatermark = changedAt;
+                }
+            }
+
+            // 이미 보관된 종료 공고는 다시 적재하지 않음
+            if (!rows.isEmpty()) {
+                Set<String> archived = new HashSet<>(archiveRepository
+                        .findNumbersByNumberIn(rows.stream().map(DogDetails::getNumber).toList()));
+                if (!archived.isEmpty()) rows.removeIf(d -> archived.contains(d.getNumber()));
+            }
+
+            if (!rows.isEmpty()) {
+                Map<String, DogNumberStateProjection> before = dogDetailsRepository
+                        .findStatesByNumberIn(rows.stream().map(DogDetails::getNumber).toList())
+                        .stream()
+                        .collect(Collectors.toMap(DogNumberStateProjection::getNumber, Function.identity(), (a, b) -> a));
+
+                List<Long> changedIds = new ArrayList<>(rows.size());
+                List<String> insertedNumbers = new ArrayList<>();
+                for (DogDetails dog : rows) {
+                    DogNumberStateProjection prev = before.get(dog.getNumber());
+                    if (prev == null) {
+                        insertedNumbers.add(dog.getNumber());
+                    } else {
+                        changedIds.add(prev.getId());
+                        if (!Objects.equals(prev.getState(), dog.getState())) transitions++;
+                    }
+                }
+
+                writer.upsert(rows, chunkSize);
+                applied += rows.size();
+                inserted += insertedNumbers.size();
+
+                // 기존 행 id 는 위 조회 결과를 그대로 쓰고, 새로 들어간 행만 id 조회
+                if (!insertedNumbers.isEmpty()) {
+                    dogDetailsRepository.findStatesByNumberIn(insertedNumbers)
+                            .forEach(p -> changedIds.add(p.getId()));
+                }
+                // 빈 목록 이벤트는 "전체 변경"으로 해석되므로 발행하지 않음
+                if (!changedIds.isEmpty()) publisher.publishEvent(DogDetailsChangedEvent.of(changedIds));
+            }
+
+            if (page.items().isEmpty() || (long) pageNo * pageSize >= page.totalCount()) break;
+        }
+
+        mark.setWatermark(newWatermark);
+        mark.setLastRunAt(now);
+        mark.setLastRowCount((int) applied);
+        watermarkRepository.save(mark);
+        lastSuccessAt = now;
+
+        appliedCounter.increment(applied);
+        insertedCounter.increment(inserted);
+        transitionCounter.increment(transitions);
+        lastRunRows.set(applied);
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        return new SyncReportDto(fetched, applied, inserted, transitions, newWatermark, elapsedMs);
+    }
+
+    // 워터마크가 있으면 수정일 기준(bgupd/enupd), 없으면 최초 적재 기간(bgnde/endde)
+    private Map<String, String> requestParams(LocalDateTime watermark) {
+        LocalDate today = LocalDate.now();
+        String end = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        if (watermark == null) {
+            return Map.of("bgnde", today.minusDays(initialLookbackDays).format(DateTimeFormatter.BASIC_ISO_DATE),
+                          "endde", end);
+        }
+        // 날짜 단위 조회라 overlapDays 만큼 겹쳐서 요청 (upsert 라 중복 반영해도 안전)
+        String begin = watermark.toLocalDate().minusDays(overlapDays).format(DateTimeFormatter.BASIC_ISO_DATE);
+        return Map.of("bgupd", begin, "enupd", end);
+    }
+
+    // 마지막 성공 동기화 이후 경과 시간 (실패가 이어지면 계속 증가, 성공 기록이 없으면 NaN)
+    private double lagSeconds() {
+        LocalDateTime last = lastSuccessAt;
+        return last == null ? Double.NaN : Duration.between(last, LocalDateTime.now()).toSeconds();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.animal.service.ingest;
+
+import com.example.animal.entity.DogDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * dog_details 배치 upsert (공고번호 unique 기준).
+ * JDBC 배치 + rewriteBatchedStatements=true 로 드라이버가 multi-row INSERT 로 재작성한다.
+ * (IDENTITY 키라 Hibernate 배치가 꺼지므로 JPA 대신 JDBC 사용)
+ * 유사도 점수에 쓰는 속성(품종/색/성별/출생/발견일/좌표)이 바뀌면 similarity_computed_at 을 비워 다음 증분 계산 대상으로 만든다.
+ * 발견장소/나이가 바뀌면 geocode_failed_at / birth_ym_failed_at 도 비워 기동 시 보정을 다시 시도하게 한다.
+ * MySQL 은 UPDATE 절을 왼쪽부터 적용하므로(뒤 식은 바뀐 값을 봄) 이 비교들을 맨 앞에 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DogDetailsUpsertWriter {
+
+    static final String UPSERT_SQL = """
+        INSERT INTO dog_details
+            (number, species, gender, age, color, neut_YN, jurisd, found_date, found_location,
+             state, image_path, shelter_id, lat, lng, created_at, species_canonical,
+             color_mask, birth_ym)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            similarity_computed_at = IF(species_canonical <=> VALUES(species_canonical) AND color_mask <=> VALUES(color_mask)
+                    AND gender <=> VALUES(gender) AND birth_ym <=> VALUES(birth_ym) AND found_date <=> VALUES(found_date)
+                    AND lat <=> VALUES(lat) AND lng <=> VALUES(lng), similarity_computed_at, NULL),
+            geocode_failed_at = IF(found_location <=> VALUES(found_location) AND jurisd <=> VALUES(jurisd), geocode_failed_at, NULL),
+            birth_ym_failed_at = IF(age <=> VALUES(age) AND found_date <=> VALUES(found_date), birth_ym_failed_at, NULL),
+            species = VALUES(species), species_canonical = VALUES(species_canonical), gender = VALUES(gender), age = VALUES(age), birth_ym = VALUES(birth_ym),
+            color = VALUES(color), color_mask = VALUES(color_mask), neut_YN = VALUES(neut_YN), jurisd = VALUES(jurisd),
+            found_date = VALUES(found_date), found_location = VALUES(found_location),
+            state = VALUES(state), image_path = VALUES(image_path), shelter_id = VALUES(shelter_id),
+            lat = VALUES(lat), lng = VALUES(lng)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** chunkSize 단위로 나눠 배치 실행 */
+    public void upsert(List<DogDetails> rows, int chunkSize) {
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<DogDetails> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            jdbcTemplate.batchUpdate(UPSERT_SQL, chunk, chunk.size(), (ps, d) -> {
+                ps.setString(1, d.getNumber());
+                ps.setString(2, d.getSpecies());
+                ps.setString(3, d.getGender());
+                ps.setString(4, d.getAge());
+                ps.setString(5, d.getColor());
+                ps.setString(6, d.getNeutYn());
+                ps.setString(7, d.getJurisd());
+                if (d.getFoundDate() != null) ps.setDate(8, Date.valueOf(d.getFoundDate()));
+                else ps.setNull(8, Types.DATE);
+                ps.setString(9, d.getFoundLocation());
+                ps.setString(10, d.getState());
+                ps.setString(11, d.getImagePath());
+                ps.setString(12, d.getShelterId());
+                if (d.getLat() != null) ps.setDouble(13, d.getLat()); else ps.setNull(13, Types.DOUBLE);
+                if (d.getLng() != null) ps.setDouble(14, d.getLng()); else ps.setNull(14, Types.DOUBLE);
+                ps.setTimestamp(15, Timestamp.valueOf(d.getCreatedAt()));
+                ps.setString(16, d.getSpeciesCanonical());
+                if (d.getColorMask() != null) ps.setInt(17, d.getColorMask()); else ps.setNull(17, Types.INTEGER);
+                if (d.getBirthYm() != null) ps.setInt(18, d.getBirthYm()); else ps.setNull(18, Types.INTEGER);
+            });
+        }
+    }
+}
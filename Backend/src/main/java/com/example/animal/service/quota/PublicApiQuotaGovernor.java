@@ -0,0 +1,281 @@
+package com.example.animal.service.quota;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공공데이터포털 API 호출 한도 관리 (서비스키별 일일 예산 + 토큰 버킷).
+ * - 버킷은 서비스키 단위: 보호소/구조동물 API 가 같은 키를 쓰면 한 버킷을 공유 (설정값은 둘 중 작은 쪽)
+ * - 일일 예산: 한국 시간 자정에 초기화, 남은 예산이 user-reserve 이하이면 백그라운드 호출 거절
+ *   · 사용 건수는 flush-interval 마다 public_api_quota_usage(키 해시, 날짜)에 증분 반영하고 합계를 다시 읽음
+ *     → 재시작/다중 인스턴스에서도 예산이 이어짐 (반영 전 사용분만 유실 가능)
+ * - 토큰 버킷: 초당 requests-per-second 로 채워지고 burst 까지 저장
+ *   · USER: 다음 토큰 시각을 예약하고 그때까지 대기 (user-max-wait 초과면 거절)
+ *   · BACKGROUND: 예약 없이 남는 토큰만 사용, 없으면 주기적으로 다시 시도 (사용자 요청에 양보)
+ * - 남은 예산, 허용/거절 건수를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class PublicApiQuotaGovernor {
+
+    public static final String SHELTER = "shelter";
+    public static final String ANIMAL = "animal";
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final Map<String, Bucket> bucketsByApi = new LinkedHashMap<>();
+    private final Map<String, Bucket> bucketsByKey = new LinkedHashMap<>();
+    private final PublicApiQuotaUsageStore usageStore;
+    private final double userReserveRatio;
+    private final long userMaxWaitNanos;
+    private final long backgroundMaxWaitNanos;
+    private final MeterRegistry meterRegistry;
+
+    public PublicApiQuotaGovernor(MeterRegistry meterRegistry,
+                                  PublicApiQuotaUsageStore usageStore,
+                                  @Value("${openapi.shelter.service-key}") String shelterServiceKey,
+                                  @Value("${app.quota.shelter.daily-limit:10000}") long shelterDailyLimit,
+                                  @Value("${app.quota.shelter.requests-per-second:5}") double shelterRate,
+                                  @Value("${app.quota.shelter.burst:10}") int shelterBurst,
+                                  @Value("${openapi.animal.service-key}") String animalServiceKey,
+                                  @Value("${app.quota.animal.daily-limit:10000}") long animalDailyLimit,
+                                  @Value("${app.quota.animal.requests-per-second:5}") double animalRate,
+                                  @Value("${app.quota.animal.burst:10}") int animalBurst,
+                                  @Value("${app.quota.user-reserve-ratio:0.2}") double userReserveRatio,
+                                  @Value("${app.quota.user-max-wait-ms:2000}") long userMaxWaitMs,
+                                  @Value("${app.quota.background-max-wait-ms:60000}") long backgroundMaxWaitMs) {
+        this.meterRegistry = meterRegistry;
+        this.usageStore = usageStore;
+        this.userReserveRatio = Math.min(Math.max(userReserveRatio, 0), 1);
+        this.userMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(userMaxWaitMs);
+        this.backgroundMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(backgroundMaxWaitMs);
+
+        Map<String, Limits> limitsByKey = new LinkedHashMap<>();
+        Map<String, String> keyByApi = Map.of(SHELTER, keyId(shelterServiceKey), ANIMAL, keyId(animalServiceKey));
+        limitsByKey.merge(keyByApi.get(SHELTER), new Limits(SHELTER, shelterDailyLimit, shelterRate, shelterBurst), Limits::min);
+        limitsByKey.merge(keyByApi.get(ANIMAL), new Limits(ANIMAL, animalDailyLimit, animalRate, animalBurst), Limits::min);
+        limitsByKey.forEach((keyId, l) -> bucketsByKey.put(keyId, new Bucket(keyId, l)));
+        keyByApi.forEach((api, keyId) -> bucketsByApi.put(api, bucketsByKey.get(keyId)));
+    }
+
+    /** 서비스키 원문 대신 저장/메트릭에 쓰는 식별자 (SHA-256 앞 16자리) */
+    static String keyId(String serviceKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((serviceKey == null ? "" : serviceKey).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 호출 1건 허가. 대기가 필요하면 그만큼 늦게 완료, 한도 초과면 QuotaExceededException 으로 완료 */
+    public CompletableFuture<Void> acquireAsync(String api, QuotaPriority priority) {
+        Bucket bucket = bucket(api);
+        return priority == QuotaPriority.USER
+                ? bucket.reserveUser(api)
+                : bucket.pollBackground(api, System.nanoTime() + backgroundMaxWaitNanos);
+    }
+
+    /** 동기 호출용 (백그라운드 작업 스레드에서 대기) */
+    public void acquire(String api, QuotaPriority priority) {
+        try {
+            acquireAsync(api, priority).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    public long remaining(String api) {
+        return bucket(api).remaining();
+    }
+
+    /** 사용 건수를 저장소에 반영하고 다른 인스턴스 사용분까지 포함한 합계로 맞춤 (기동 직후 첫 실행이 시드 역할) */
+    @Scheduled(fixedDelayString = "${app.quota.flush-interval-ms:10000}")
+    public void flushUsage() {
+        bucketsByKey.values().forEach(Bucket::flush);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushUsage();
+    }
+
+    private Bucket bucket(String api) {
+        Bucket b = bucketsByApi.get(api);
+        if (b == null) throw new IllegalArgumentException("알 수 없는 공공API: " + api);
+        return b;
+    }
+
+    private record Limits(String apis, long dailyLimit, double ratePerSecond, int burst) {
+        Limits min(Limits o) {
+            return new Limits(apis + "," + o.apis, Math.min(dailyLimit, o.dailyLimit),
+                    Math.min(ratePerSecond, o.ratePerSecond), Math.min(burst, o.burst));
+        }
+    }
+
+    private final class Bucket {
+        final String keyId;
+        final long dailyLimit;
+        final long userReserve;
+        final long intervalNanos;  // 토큰 1개 생성 간격
+        final double burst;
+
+        LocalDate day = LocalDate.now(KST);
+        long base = 0;     // 저장소에서 읽은 오늘 사용 건수 (다른 인스턴스 포함)
+        long pending = 0;  // 아직 저장소에 반영하지 않은 이 인스턴스 사용 건수
+        double stored;
+        long nextFree = System.nanoTime();
+
+        final Counter userAcquired;
+        final Counter backgroundAcquired;
+        final Counter userRejected;
+        final Counter backgroundRejected;
+
+        Bucket(String keyId, Limits limits) {
+            this.keyId = keyId;
+            this.dailyLimit = Math.max(limits.dailyLimit(), 1);
+            this.userReserve = (long) Math.ceil(this.dailyLimit * userReserveRatio);
+            this.intervalNanos = limits.ratePerSecond() > 0 ? (long) (1_000_000_000L / limits.ratePerSecond()) : 0;
+            this.burst = Math.max(limits.burst(), 1);
+            this.stored = this.burst;
+
+            Gauge.builder("public_api.quota.remaining", this, Bucket::remaining)
+                    .tag("key", keyId).tag("api", limits.apis()).register(meterRegistry);
+            this.userAcquired = counter("public_api.quota.acquired", limits.apis(), QuotaPriority.USER);
+            this.backgroundAcquired = counter("public_api.quota.acquired", limits.apis(), QuotaPriority.BACKGROUND);
+            this.userRejected = counter("public_api.quota.rejected", limits.apis(), QuotaPriority.USER);
+            this.backgroundRejected = counter("public_api.quota.rejected", limits.apis(), QuotaPriority.BACKGROUND);
+        }
+
+        private Counter counter(String name, String apis, QuotaPriority priority) {
+            return Counter.builder(name)
+                    .tag("key", keyId)
+                    .tag("api", apis)
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+
+        private long used() {
+            return base + pending;
+        }
+
+        synchronized long remaining() {
+            rollDay();
+            return Math.max(dailyLimit - used(), 0);
+        }
+
+        CompletableFuture<Void> reserveUser(String api) {
+            long wait;
+            synchronized (this) {
+                rollDay();
+                if (used() >= dailyLimit) return reject(api, QuotaPriority.USER, "일일 예산 소진");
+                long now = System.nanoTime();
+                resync(now);
+                wait = Math.max(nextFree - now, 0);
+                if (wait > userMaxWaitNanos) return reject(api, QuotaPriority.USER, "요청 대기열 초과");
+                double fromStored = Math.min(1.0, stored);
+                stored -= fromStored;
+                nextFree += (long) ((1.0 - fromStored) * intervalNanos);
+                pending++;
+            }
+            userAcquired.increment();
+            return wait == 0
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS));
+        }
+
+        CompletableFuture<Void> pollBackground(String api, long deadline) {
+            long retryIn;
+            synchronized (this) {
+                rollDay();
+                if (dailyLimit - used() <= userReserve) return reject(api, QuotaPriority.BACKGROUND, "사용자 몫 예산만 남음");
+                long now = System.nanoTime();
+                resync(now);
+                if (stored >= 1.0 && nextFree <= now) {
+                    stored -= 1.0;
+                    pending++;
+                    retryIn = -1;
+                } else {
+                    retryIn = Math.max(nextFree - now, intervalNanos);
+                    if (now + retryIn > deadline) return reject(api, QuotaPriority.BACKGROUND, "대기 시간 초과");
+                }
+            }
+            if (retryIn < 0) {
+                backgroundAcquired.increment();
+                return CompletableFuture.completedFuture(null);
+            }
+            return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(retryIn, TimeUnit.NANOSECONDS))
+                    .thenCompose(v -> pollBackground(api, deadline));
+        }
+
+        // 예약 시각이 지났으면 그동안 쌓인 토큰을 저장 (burst 까지)
+        private void resync(long now) {
+            if (now > nextFree) {
+                if (intervalNanos > 0) {
+                    stored = Math.min(burst, stored + (double) (now - nextFree) / intervalNanos);
+                } else {
+                    stored = burst;
+                }
+                nextFree = now;
+            }
+        }
+
+        private void rollDay() {
+            LocalDate today = LocalDate.now(KST);
+            if (!today.equals(day)) {
+                day = today;
+                base = 0;
+                pending = 0;
+            }
+        }
+
+        void flush() {
+            LocalDate flushDay;
+            long taken;
+            synchronized (this) {
+                rollDay();
+                flushDay = day;
+                taken = pending;
+                pending = 0;
+            }
+            long total;
+            try {
+                total = usageStore.addAndGet(keyId, flushDay, taken);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    if (flushDay.equals(day)) pending += taken;
+                }
+                log.warn("공공API 사용 건수 저장 실패(key={}): {}", keyId, e.getMessage());
+                return;
+            }
+            synchronized (this) {
+                if (flushDay.equals(day)) base = Math.max(base + taken, total);
+            }
+        }
+
+        private CompletableFuture<Void> reject(String api, QuotaPriority priority, String reason) {
+            (priority == QuotaPriority.USER ? userRejected : backgroundRejected).increment();
+            return CompletableFuture.failedFuture(new QuotaExceededException(api, priority, reason));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.animal.service.quota;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/** 서비스키/날짜별 사용 건수 저장소 (public_api_quota_usage, 인스턴스 간 합산되도록 증분으로 반영) */
+@Component
+public class PublicApiQuotaUsageStore {
+
+    private static final String ADD_SQL = """
+        INSERT INTO public_api_quota_usage (key_id, usage_date, used, updated_at)
+        VALUES (?, ?, ?, NOW())
+        ON DUPLICATE KEY UPDATE used = used + VALUES(used), updated_at = NOW()""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PublicApiQuotaUsageStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** delta 만큼 더한 뒤 (다른 인스턴스 사용분 포함) 합계 반환. delta=0 이면 조회만 */
+    public long addAndGet(String keyId, LocalDate day, long delta) {
+        if (delta > 0) {
+            jdbcTemplate.update(ADD_SQL, keyId, Date.valueOf(day), delta);
+        }
+        Long used = jdbcTemplate.query(
+                "SELECT used FROM public_api_quota_usage WHERE key_id = ? AND usage_date = ?",
+                rs -> rs.next() ? rs.getLong(1) : 0L,
+                keyId, Date.valueOf(day));
+        return used == null ? 0 : used;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.animal.service.quota;
+
+import lombok.Getter;
+
+/** 공공API 호출 한도(일일 예산/초당 속도) 초과로 호출을 거절함 */
+@Getter
+public class QuotaExceededException extends RuntimeException {
+
+    private final String api;
+    private final QuotaPriority priority;
+
+    public QuotaExceededException(String api, QuotaPriority priority, String reason) {
+        super("공공API 호출 한도 초과(" + api + ", " + priority + "): " + reason);
+        this.api = api;
+        this.priority = priority;
+    }
+}
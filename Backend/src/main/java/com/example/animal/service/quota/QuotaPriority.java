@@ -0,0 +1,7 @@
+package com.example.animal.service.quota;
+
+/** 공공API 호출 우선순위: 사용자 요청이 백그라운드 동기화보다 우선 */
+public enum QuotaPriority {
+    USER,
+    BACKGROUND
+}
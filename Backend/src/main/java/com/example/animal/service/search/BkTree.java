@@ -0,0 +1,99 @@
+package com.example.animal.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * 편집 거리(Levenshtein) 기반 BK-tree (키 → 용어 번호, 불변).
+ * 삼각 부등식으로 |d - k| 밖의 하위 트리는 건너뛰므로 사전이 커져도 방문 노드 수가 작게 유지된다.
+ */
+final class BkTree {
+
+    private final Node root;
+
+    private BkTree(Node root) {
+        this.root = root;
+    }
+
+    static BkTree of(List<PrefixIndex.Entry> entries) {
+        Node root = null;
+        for (PrefixIndex.Entry e : entries) {
+            if (e.key().isEmpty()) continue;
+            if (root == null) root = new Node(e.key());
+            root.insert(e.key(), e.termId());
+        }
+        return new BkTree(root);
+    }
+
+    /** key 와 편집 거리 maxDistance 이내인 모든 용어 번호 전달 */
+    void forEachWithin(String key, int maxDistance, IntConsumer consumer) {
+        if (root == null || key.isEmpty()) return;
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            int d = distance(key, node.key);
+            if (d <= maxDistance) {
+                for (int id : node.termIds) consumer.accept(id);
+            }
+            if (node.children == null) continue;
+            for (int cd = Math.max(1, d - maxDistance); cd <= d + maxDistance; cd++) {
+                Node child = node.children.get(cd);
+                if (child != null) stack.add(child);
+            }
+        }
+    }
+
+    static int distance(String a, String b) {
+        int n = b.length();
+        int[] prev = new int[n + 1];
+        int[] cur = new int[n + 1];
+        for (int j = 0; j <= n; j++) prev[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            cur[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= n; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] t = prev;
+            prev = cur;
+            cur = t;
+        }
+        return prev[n];
+    }
+
+    private static final class Node {
+        final String key;
+        int[] termIds = new int[0];
+        Map<Integer, Node> children;
+
+        Node(String key) {
+            this.key = key;
+        }
+
+        void insert(String key, int termId) {
+            Node node = this;
+            while (true) {
+                int d = distance(key, node.key);
+                if (d == 0) {
+                    int[] ids = Arrays.copyOf(node.termIds, node.termIds.length + 1);
+                    ids[ids.length - 1] = termId;
+                    node.termIds = ids;
+                    return;
+                }
+                if (node.children == null) node.children = new HashMap<>();
+                Node child = node.children.get(d);
+                if (child == null) {
+                    child = new Node(key);
+                    node.children.put(d, child);
+                }
+                node = child;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.animal.service.search;
+
+/** 용어 인덱스 대상 컬럼 */
+public enum DogTermField {
+    SPECIES(true, true),
+    JURISD(true, false),
+    FOUND_LOCATION(false, false);
+
+    /** true: 글자 단위 부분 일치 키, false: 단어 시작 키만 (값 종류가 많은 컬럼) */
+    private final boolean infix;
+    /** true: 오타 허용 일치용 BK-tree 구성 */
+    private final boolean fuzzy;
+
+    DogTermField(boolean infix, boolean fuzzy) {
+        this.infix = infix;
+        this.fuzzy = fuzzy;
+    }
+
+    public boolean infix() {
+        return infix;
+    }
+
+    public boolean fuzzy() {
+        return fuzzy;
+    }
+
+    /** 요청 파라미터(field=species|jurisd|foundLocation) → enum, 없으면 null (대소문자/구분자 무시) */
+    public static DogTermField from(String value) {
+        if (value == null) return null;
+        String key = value.trim().replace("_", "").replace("-", "");
+        for (DogTermField f : values()) {
+            if (f.name().replace("_", "").equalsIgnoreCase(key)) return f;
+        }
+        return null;
+    }
+}
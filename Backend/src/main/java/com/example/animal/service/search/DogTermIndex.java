@@ -0,0 +1,72 @@
+package com.example.animal.service.search;
+
+import com.example.animal.event.DogDetailsChangedEvent;
+import com.example.animal.repository.DogDetailsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * dog_details 컬럼별 용어 사전 (자동완성/검색 보조).
+ * - 기동 시 GROUP BY 로 구성, 이후 변경 이벤트가 오면 주기적으로 재구성(디바운스)
+ * - 조회는 불변 스냅샷만 읽으므로 DB 왕복 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class DogTermIndex {
+
+    private final DogDetailsRepository dogDetailsRepository;
+
+    private volatile Map<DogTermField, TermDictionary> dictionaries = new EnumMap<>(DogTermField.class);
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        dirty.set(false);
+        Map<DogTermField, TermDictionary> fresh = new EnumMap<>(DogTermField.class);
+        for (DogTermField field : DogTermField.values()) {
+            fresh.put(field, new TermDictionary(load(field), field.infix(), field.fuzzy()));
+        }
+        dictionaries = fresh;
+    }
+
+    private List<TermCount> load(DogTermField field) {
+        return switch (field) {
+            case SPECIES -> dogDetailsRepository.findSpeciesCounts();
+            case JURISD -> dogDetailsRepository.findJurisdCounts();
+            case FOUND_LOCATION -> dogDetailsRepository.findFoundLocationCounts();
+        };
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDogDetailsChanged(DogDetailsChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.term-index.refresh-ms:5000}")
+    public void refreshIfDirty() {
+        if (dirty.get()) rebuild();
+    }
+
+    public TermDictionary dictionary(DogTermField field) {
+        return dictionaries.getOrDefault(field, TermDictionary.empty());
+    }
+
+    public List<TermDictionary.Suggestion> suggest(DogTermField field, String query, int limit) {
+        return dictionary(field).suggest(query, limit);
+    }
+
+    /** 검색어와 일치하는 컬럼 값 목록 (초성/자모 포함, fuzzy 컬럼은 오타 허용 일치 포함) */
+    public List<String> matchTerms(DogTermField field, String query) {
+        return dictionary(field).matchTerms(query, field.fuzzy());
+    }
+}
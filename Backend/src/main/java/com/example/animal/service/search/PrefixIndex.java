@@ -0,0 +1,54 @@
+package com.example.animal.service.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 정렬된 키 배열 기반 접두어 인덱스 (키 → 용어 번호).
+ * 이진 탐색으로 시작 위치를 찾고, 접두어가 같은 구간만 순회한다.
+ */
+final class PrefixIndex {
+
+    private final String[] keys;
+    private final int[] termIds;
+
+    private PrefixIndex(String[] keys, int[] termIds) {
+        this.keys = keys;
+        this.termIds = termIds;
+    }
+
+    static PrefixIndex of(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparing(Entry::key));
+        String[] keys = new String[sorted.length];
+        int[] ids = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = sorted[i].key();
+            ids[i] = sorted[i].termId();
+        }
+        return new PrefixIndex(keys, ids);
+    }
+
+    /** prefix 로 시작하는 모든 키의 용어 번호 전달 (중복 가능) */
+    void forEachPrefix(String prefix, IntConsumer consumer) {
+        int i = lowerBound(prefix);
+        while (i < keys.length && keys[i].startsWith(prefix)) {
+            consumer.accept(termIds[i]);
+            i++;
+        }
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    record Entry(String key, int termId) {}
+}
@@ -0,0 +1,5 @@
+package com.example.animal.service.search;
+
+/** 컬럼 값 + 출현 빈도 (GROUP BY 결과, JPQL 생성자 표현식용) */
+public record TermCount(String term, Long count) {
+}
@@ -0,0 +1,179 @@
+package com.example.animal.service.search;
+
+import com.example.animal.util.Hangul;
+
+import java.util.*;
+
+/**
+ * 한 컬럼의 고유 값 사전 (불변).
+ * - terms/counts: 용어와 출현 빈도
+ * - 키: 소문자화한 "시작 위치부터의 문자열" ("경기도 화성시" → "경기도 화성시", "화성시")
+ *   infix=true 면 글자마다, false 면 단어 시작마다 생성
+ * - jamoIndex: 키를 자모로 풀어 저장 → 입력 중인 글자("진ㄷ")도 접두어로 일치
+ * - chosungIndex: 키의 초성 → 초성 검색("ㅈㄷㄱ" → 진돗개)
+ * - fuzzyIndex(선택): 값 전체의 자모 키 BK-tree → 오타 허용 일치("말티스" → 말티즈)
+ * 자모 분해는 구성 시 한 번만 하고, 조회는 질의 분해 + 이진 탐색/트리 탐색뿐
+ */
+public final class TermDictionary {
+
+    private static final TermDictionary EMPTY = new TermDictionary(List.of(), false, false);
+
+    private final String[] terms;
+    private final long[] counts;
+    private final PrefixIndex jamoIndex;
+    private final PrefixIndex chosungIndex;
+    private final BkTree fuzzyIndex;
+
+    public TermDictionary(List<TermCount> source, boolean infix, boolean fuzzy) {
+        int n = source.size();
+        this.terms = new String[n];
+        this.counts = new long[n];
+        List<PrefixIndex.Entry> jamoEntries = new ArrayList<>();
+        List<PrefixIndex.Entry> chosungEntries = new ArrayList<>();
+        List<PrefixIndex.Entry> fuzzyEntries = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            TermCount tc = source.get(i);
+            terms[i] = tc.term();
+            counts[i] = tc.count() == null ? 0 : tc.count();
+            String normalized = normalize(tc.term());
+            for (String key : infix ? suffixKeys(normalized) : wordStartKeys(normalized)) {
+                jamoEntries.add(new PrefixIndex.Entry(Hangul.toJamo(key), i));
+                chosungEntries.add(new PrefixIndex.Entry(Hangul.toChosung(key), i));
+            }
+            if (fuzzy) fuzzyEntries.add(new PrefixIndex.Entry(fuzzyKey(normalized), i));
+        }
+        this.jamoIndex = PrefixIndex.of(jamoEntries);
+        this.chosungIndex = PrefixIndex.of(chosungEntries);
+        this.fuzzyIndex = fuzzy ? BkTree.of(fuzzyEntries) : null;
+    }
+
+    public static TermDictionary empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    public String term(int id) {
+        return terms[id];
+    }
+
+    public long count(int id) {
+        return counts[id];
+    }
+
+    /** 접두어 일치 용어를 빈도 내림차순으로 최대 limit 개 */
+    public List<Suggestion> suggest(String query, int limit) {
+        return topByCount(match(query), limit);
+    }
+
+    /**
+     * 질의와 일치하는 용어 번호 집합.
+     * 초성만으로 된 질의는 초성 키, 그 외는 자모 키에 대해 접두어 비교
+     */
+    public BitSet match(String query) {
+        String q = normalize(query);
+        BitSet matched = new BitSet(terms.length);
+        if (q.isEmpty()) matched.set(0, terms.length);
+        else if (Hangul.isChosungOnly(q)) chosungIndex.forEachPrefix(q, matched::set);
+        else jamoIndex.forEachPrefix(Hangul.toJamo(q), matched::set);
+        return matched;
+    }
+
+    /**
+     * match + 오타 허용 일치 (fuzzy 사전만).
+     * 허용 거리는 질의 자모 길이에 비례: 짧은 질의는 오타 허용 안 함
+     */
+    public BitSet matchFuzzy(String query) {
+        BitSet matched = match(query);
+        String q = normalize(query);
+        if (fuzzyIndex == null || q.isEmpty() || Hangul.isChosungOnly(q)) return matched;
+        String key = fuzzyKey(q);
+        int k = maxDistance(key.length());
+        if (k > 0) fuzzyIndex.forEachWithin(key, k, matched::set);
+        return matched;
+    }
+
+    /** 일치 용어 값 (IN 조건용) */
+    public List<String> matchTerms(String query, boolean fuzzy) {
+        BitSet matched = fuzzy ? matchFuzzy(query) : match(query);
+        List<String> out = new ArrayList<>(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            out.add(terms[i]);
+        }
+        return out;
+    }
+
+    /** 빈도 순 상위 limit 개 (matched 에 포함된 용어만) */
+    List<Suggestion> topByCount(BitSet matched, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(i -> counts[i]).thenComparing(i -> terms[i], Comparator.reverseOrder()));
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            heap.offer(i);
+            if (heap.size() > limit) heap.poll();
+        }
+        List<Suggestion> out = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            int i = heap.poll();
+            out.add(new Suggestion(terms[i], counts[i]));
+        }
+        Collections.reverse(out);
+        return out;
+    }
+
+    /** 전체 용어 (가나다순) */
+    public List<String> allTerms() {
+        String[] copy = terms.clone();
+        Arrays.sort(copy);
+        return List.of(copy);
+    }
+
+    static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 공백/구분자 뒤 단어 시작 위치마다 키 생성
+    static List<String> wordStartKeys(String normalized) {
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) return keys;
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            char prev = normalized.charAt(i - 1);
+            if (isSeparator(prev) && !isSeparator(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    // 오타 비교용 키: "[개] " 같은 분류 접두어와 공백 제거 후 자모 분해
+    static String fuzzyKey(String normalized) {
+        String s = normalized.startsWith("[") && normalized.indexOf(']') > 0
+                ? normalized.substring(normalized.indexOf(']') + 1)
+                : normalized;
+        return Hangul.toJamo(s.replace(" ", ""));
+    }
+
+    // 자모 4개 미만(한 글자 남짓)은 0, 8개 미만은 1, 그 이상은 2
+    static int maxDistance(int jamoLength) {
+        if (jamoLength < 4) return 0;
+        return jamoLength < 8 ? 1 : 2;
+    }
+
+    // 모든 글자 위치마다 키 생성 (부분 일치용, 짧은 값 컬럼에만 사용)
+    static List<String> suffixKeys(String normalized) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (!isSeparator(normalized.charAt(i))) keys.add(normalized.substring(i));
+        }
+        return keys;
+    }
+
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')' || c == '[' || c == ']' || c == '&' || c == ',' || c == '/';
+    }
+
+    public record Suggestion(String term, long count) {}
+}
@@ -0,0 +1,208 @@
+package com.example.animal.service.shelter;
+
+import com.example.animal.dto.ShelterPage;
+import com.example.animal.service.quota.PublicApiQuotaGovernor;
+import com.example.animal.service.quota.QuotaPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 공공데이터 동물보호센터 정보 API 클라이언트.
+ * - 공유 HttpClient 하나로 연결 재사용, gzip 요청, 연결/요청 타임아웃
+ * - 네트워크 오류/5xx/429 는 지수 백오프 + 지터로 제한 횟수만큼 재시도
+ * - 비동기(CompletableFuture) 반환 → 대기 중 요청 스레드를 잡지 않음
+ * - openPageStream: 필터 없는 조회용, 본문을 해석하지 않고 스트림으로 넘김
+ * - 모든 시도(재시도 포함)는 호출 한도 관리자(PublicApiQuotaGovernor)의 허가를 받은 뒤 전송
+ */
+@Component
+public class ShelterApiClient {
+
+    private final ShelterPayloadParser payloadParser;
+    private final PublicApiQuotaGovernor quotaGovernor;
+    private final String apiUrl;
+    private final String serviceKey;
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public ShelterApiClient(ShelterPayloadParser payloadParser,
+                            PublicApiQuotaGovernor quotaGovernor,
+                            @Value("${openapi.shelter.url}") String apiUrl,
+                            @Value("${openapi.shelter.service-key}") String serviceKey,
+                            @Value("${app.shelter.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                            @Value("${app.shelter.http.request-timeout-ms:10000}") long requestTimeoutMs,
+                            @Value("${app.shelter.http.max-attempts:3}") int maxAttempts,
+                            @Value("${app.shelter.http.backoff-ms:300}") long backoffMs) {
+        this.payloadParser = payloadParser;
+        this.quotaGovernor = quotaGovernor;
+        this.apiUrl = apiUrl;
+        this.serviceKey = serviceKey;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffMs = Math.max(backoffMs, 0);
+    }
+
+    /**
+     * 한 페이지 원본 JSON.
+     * 200 이 아니거나, 200 이어도 resultCode 가 00 이 아니거나 XML 오류 본문이면 ShelterApiException,
+     * 한도 초과면 QuotaExceededException 으로 완료 (캐시는 실패를 저장하지 않으므로 오류 본문이 캐시되지 않음)
+     */
+    public CompletableFuture<String> fetchPageRawAsync(int page, int size, QuotaPriority priority) {
+        return exchange(pageRequest(page, size, true), HttpResponse.BodyHandlers.ofByteArray(), priority, 1)
+                .thenApply(response -> {
+                    String body = decode(response);
+                    if (response.statusCode() != 200) {
+                        throw new ShelterApiException(response.statusCode(), body);
+                    }
+                    String error = payloadParser.resultError(body);
+                    if (error != null) throw new ShelterApiException(response.statusCode(), body, error);
+                    return body;
+                });
+    }
+
+    /**
+     * 한 페이지 응답을 스트림 그대로 연다 (본문 해석/디코딩 없음, 호출자가 반드시 close).
+     * acceptGzip=true 면 gzip 압축 본문이 올 수 있으므로 Content-Encoding 을 함께 전달해야 한다.
+     */
+    public CompletableFuture<HttpResponse<InputStream>> openPageStream(int page, int size, boolean acceptGzip) {
+        return exchange(pageRequest(page, size, acceptGzip), HttpResponse.BodyHandlers.ofInputStream(),
+                QuotaPriority.USER, 1);
+    }
+
+    /**
+     * 한 페이지 조회 후 item 목록/전체 건수로 변환 (동기, 스냅샷 적재 등 백그라운드 작업, 사용자 요청에 양보).
+     * 본문은 문자열로 모으지 않고 응답 스트림에서 바로 파싱한다.
+     */
+    public ShelterPage fetchPage(int page, int size) {
+        HttpResponse<InputStream> response;
+        try {
+            response = exchange(pageRequest(page, size, true), HttpResponse.BodyHandlers.ofInputStream(),
+                    QuotaPriority.BACKGROUND, 1).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("보호소 API 호출 실패: " + e.getMessage(), e);
+        }
+
+        InputStream body = response.body();
+        try {
+            if (isGzip(response)) body = new GZIPInputStream(body);
+            if (response.statusCode() != 200) {
+                try (InputStream in = body) {
+                    throw new ShelterApiException(response.statusCode(),
+                            new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        } catch (IOException e) {
+            discard(response);
+            throw new IllegalStateException("보호소 API 응답 읽기 실패", e);
+        }
+        return payloadParser.parse(body);
+    }
+
+    private HttpRequest pageRequest(int page, int size, boolean acceptGzip) {
+        // 🔒 serviceKey는 인코딩하지 않습니다
+        // 📌 기타 파라미터는 인코딩 필요 없음 (숫자, 영문자)
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(pageUrl(page, size)))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .header("User-Agent", "Mozilla/5.0")
+                .GET();
+        if (acceptGzip) builder.header("Accept-Encoding", "gzip");
+        return builder.build();
+    }
+
+    /** 네트워크 오류/5xx/429 재시도, 그 외 응답은 상태 코드와 함께 그대로 반환 (한도 초과는 재시도하지 않음) */
+    private <T> CompletableFuture<HttpResponse<T>> exchange(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> handler,
+                                                            QuotaPriority priority,
+                                                            int attempt) {
+        return quotaGovernor.acquireAsync(PublicApiQuotaGovernor.SHELTER, priority)
+                .thenCompose(granted -> send(request, handler, priority, attempt));
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request,
+                                                        HttpResponse.BodyHandler<T> handler,
+                                                        QuotaPriority priority,
+                                                        int attempt) {
+        return httpClient.sendAsync(request, handler)
+                .handle((response, ex) -> {
+                    boolean retryable = ex != null
+                            || response.statusCode() >= 500
+                            || response.statusCode() == 429;
+                    if (!retryable) return CompletableFuture.completedFuture(response);
+                    if (attempt < maxAttempts) {
+                        if (response != null) discard(response);
+                        Executor delayed = CompletableFuture.delayedExecutor(backoffDelay(attempt), TimeUnit.MILLISECONDS);
+                        return CompletableFuture.supplyAsync(() -> request, delayed)
+                                .thenCompose(r -> exchange(r, handler, priority, attempt + 1));
+                    }
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        return CompletableFuture.<HttpResponse<T>>failedFuture(
+                                new IllegalStateException("보호소 API 호출 실패: " + cause.getMessage(), cause));
+                    }
+                    return CompletableFuture.completedFuture(response);
+                })
+                .thenCompose(f -> f);
+    }
+
+    // 재시도로 버리는 응답의 스트림은 닫아서 연결을 돌려준다
+    private static void discard(HttpResponse<?> response) {
+        if (response.body() instanceof InputStream in) {
+            try { in.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    /** full jitter: 0 ~ backoffMs * 2^(attempt-1) */
+    private long backoffDelay(int attempt) {
+        long cap = backoffMs << Math.min(attempt - 1, 10);
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static String decode(HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        if (body == null) return "";
+        if (!isGzip(response)) return new String(body, StandardCharsets.UTF_8);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("보호소 API gzip 해제 실패", e);
+        }
+    }
+
+    private static boolean isGzip(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Encoding")
+                .map(v -> v.toLowerCase().contains("gzip")).orElse(false);
+    }
+
+    private String pageUrl(int page, int size) {
+        return apiUrl + "?serviceKey=" + serviceKey
+                + "&MobileOS=ETC"
+                + "&MobileApp=LostDogApp"
+                + "&_type=json"
+                + "&pageNo=" + page
+                + "&numOfRows=" + size;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.animal.service.shelter;
+
+import lombok.Getter;
+
+/** 보호소 공공API 비정상 응답 (200 이 아닌 응답 코드, 또는 200 이지만 resultCode/본문이 오류) */
+@Getter
+public class ShelterApiException extends RuntimeException {
+
+    private final int responseCode;
+    private final String body;
+
+    public ShelterApiException(int responseCode, String body) {
+        super("공공API 응답 코드 " + responseCode);
+        this.responseCode = responseCode;
+        this.body = body;
+    }
+
+    public ShelterApiException(int responseCode, String body, String reason) {
+        super("공공API 오류 응답 (" + reason + ")");
+        this.responseCode = responseCode;
+        this.body = body;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.animal.service.shelter;
+
+import com.example.animal.dto.ShelterResponseDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 보호소 운영시간을 주 단위 분(월요일 00:00 = 0) 구간 배열로 변환한 값.
+ * - 평일(월~금): weekOprStime~weekOprEtime, 주말(토/일): weekendOprStime~weekendOprEtime
+ * - closeDay 의 요일(월요일, 매주 화, 토·일 등)은 휴무로 제외, 공휴일/명절은 달력이 없어 무시
+ * - 종료가 시작보다 이르면 자정을 넘기는 구간으로 처리
+ * - 조회는 시작 배열 이진 탐색 한 번
+ */
+public final class ShelterHours {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    /** 운영시간 정보가 없는 보호소 */
+    public static final ShelterHours UNKNOWN = new ShelterHours(new int[0], new int[0]);
+
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2})\\s*(?:[:시]\\s*(\\d{1,2})?)?");
+    private static final Pattern PM = Pattern.compile("오후|(?i:pm|p\\.m\\.)");
+    private static final Pattern AM = Pattern.compile("오전|(?i:am|a\\.m\\.)");
+    private static final Pattern DAY_TOKEN = Pattern.compile("(?:매주)?([월화수목금토일])(?:요일)?");
+    private static final String DAY_CHARS = "월화수목금토일";
+
+    private final int[] starts;  // 오름차순, 구간끼리 겹치지 않음
+    private final int[] ends;    // 배타적 끝 (주 경계를 넘는 구간은 둘로 나눠 저장)
+
+    private ShelterHours(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public static ShelterHours parse(ShelterResponseDto.Item item) {
+        int[] weekday = parseRange(item.getWeekOprStime(), item.getWeekOprEtime());
+        int[] weekend = parseRange(item.getWeekendOprStime(), item.getWeekendOprEtime());
+        if (weekday == null && weekend == null) return UNKNOWN;
+
+        boolean[] closed = parseCloseDays(item.getCloseDay());
+        List<int[]> ranges = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            if (closed[day]) continue;
+            int[] r = day < 5 ? weekday : weekend;
+            if (r == null) continue;
+            int from = day * MINUTES_PER_DAY + r[0];
+            int to = day * MINUTES_PER_DAY + (r[1] > r[0] ? r[1] : r[1] + MINUTES_PER_DAY);
+            if (to <= MINUTES_PER_WEEK) {
+                ranges.add(new int[] { from, to });
+            } else {
+                ranges.add(new int[] { from, MINUTES_PER_WEEK });
+                ranges.add(new int[] { 0, to - MINUTES_PER_WEEK });
+            }
+        }
+        return of(ranges);
+    }
+
+    /** 구간 정렬 + 겹치거나 맞닿은 구간 병합 */
+    static ShelterHours of(List<int[]> ranges) {
+        if (ranges.isEmpty()) return new ShelterHours(new int[0], new int[0]);
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] s = new int[ranges.size()];
+        int[] e = new int[ranges.size()];
+        int n = 0;
+        for (int[] r : ranges) {
+            if (n > 0 && r[0] <= e[n - 1]) {
+                e[n - 1] = Math.max(e[n - 1], r[1]);
+            } else {
+                s[n] = r[0];
+                e[n] = r[1];
+                n++;
+            }
+        }
+        return new ShelterHours(Arrays.copyOf(s, n), Arrays.copyOf(e, n));
+    }
+
+    public boolean isKnown() {
+        return this != UNKNOWN;
+    }
+
+    public boolean isOpenAt(int minuteOfWeek) {
+        int i = floorIndex(minuteOfWeek);
+        return i >= 0 && minuteOfWeek < ends[i];
+    }
+
+    /** 지금부터 다음 운영 시작까지 남은 분 (운영 중이면 0, 운영 구간이 없으면 -1) */
+    public int minutesUntilOpen(int minuteOfWeek) {
+        if (starts.length == 0) return -1;
+        if (isOpenAt(minuteOfWeek)) return 0;
+        int next = floorIndex(minuteOfWeek) + 1;
+        if (next < starts.length) return starts[next] - minuteOfWeek;
+        return MINUTES_PER_WEEK - minuteOfWeek + starts[0]; // 다음 주 첫 구간
+    }
+
+    /** 운영 중이면 null, 아니면 다음 운영 시작 시각 (구간이 없으면 null) */
+    public LocalDateTime nextOpenAt(LocalDateTime at) {
+        int wait = minutesUntilOpen(minuteOfWeek(at));
+        return wait <= 0 ? null : at.withSecond(0).withNano(0).plusMinutes(wait);
+    }
+
+    public static int minuteOfWeek(LocalDateTime at) {
+        return (at.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue()) * MINUTES_PER_DAY
+                + at.getHour() * 60 + at.getMinute();
+    }
+
+    // starts[i] <= minute 인 가장 큰 i (없으면 -1)
+    private int floorIndex(int minute) {
+        int i = Arrays.binarySearch(starts, minute);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    /**
+     * "09:00" / "9:00" / "0900" / "9시" / "18시30" / "오후 6시" / "6:00 PM" → 하루 중 분, 인식 실패 시 -1.
+     * 오후/PM 은 12시 미만이면 +12시간, 오전/AM 12시는 0시 ("오후 18:00" 처럼 이미 24시간 표기면 그대로)
+     */
+    static int parseTime(String s) {
+        if (s == null) return -1;
+        String t = s.trim();
+        if (t.isEmpty()) return -1;
+        if (t.length() == 4 && t.chars().allMatch(Character::isDigit)) {
+            t = t.substring(0, 2) + ":" + t.substring(2);
+        }
+        Matcher m = TIME.matcher(t);
+        if (!m.find()) return -1;
+        int h = Integer.parseInt(m.group(1));
+        int min = m.group(2) == null ? 0 : Integer.parseInt(m.group(2));
+        if (PM.matcher(t).find()) {
+            if (h < 12) h += 12;
+        } else if (AM.matcher(t).find()) {
+            if (h == 12) h = 0;
+        }
+        if (h > 24 || min > 59 || (h == 24 && min > 0)) return -1;
+        return h * 60 + min;
+    }
+
+    // [시작분, 끝분] 또는 null (둘 중 하나라도 없거나 같으면)
+    private static int[] parseRange(String start, String end) {
+        int s = parseTime(start);
+        int e = parseTime(end);
+        if (s < 0 || e < 0 || s == e || s == MINUTES_PER_DAY) return null;
+        return new int[] { s, e };
+    }
+
+    /** closeDay 에서 요일 휴무 추출 (0=월 ~ 6=일) */
+    static boolean[] parseCloseDays(String closeDay) {
+        boolean[] closed = new boolean[7];
+        if (closeDay == null || closeDay.isBlank()) return closed;
+        for (String token : closeDay.split("[,\\s/·.및()]+")) {
+            Matcher m = DAY_TOKEN.matcher(token);
+            if (m.matches()) closed[DAY_CHARS.indexOf(m.group(1))] = true;
+        }
+        return closed;
+    }
+}
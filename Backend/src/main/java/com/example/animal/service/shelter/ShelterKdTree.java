@@ -0,0 +1,144 @@
+package com.example.animal.service.shelter;
+
+/**
+ * 보호소 좌표 k-d 트리 (최근접 K 곳 검색용).
+ * - 위경도를 단위 구 위 3차원 좌표(x, y, z)로 바꿔 저장 → 직선(현) 거리 순서 = 구면 거리 순서
+ * - 배열 하나에 중앙값 기준으로 재배치한 암시적 트리 (노드 객체 없음)
+ * - 스냅샷 생성 시 한 번 만들고 이후 읽기 전용
+ */
+final class ShelterKdTree {
+
+    private final int[] order;     // 트리 배치 순서의 항목 인덱스 (구간 [lo, hi) 의 중앙이 노드)
+    private final double[][] xyz;  // 항목 인덱스별 단위 구 좌표
+
+    private ShelterKdTree(int[] order, double[][] xyz) {
+        this.order = order;
+        this.xyz = xyz;
+    }
+
+    /** lats/lngs 의 NaN 항목은 제외 */
+    static ShelterKdTree build(double[] lats, double[] lngs) {
+        double[][] xyz = new double[lats.length][];
+        int n = 0;
+        for (int i = 0; i < lats.length; i++) {
+            if (!Double.isNaN(lats[i]) && !Double.isNaN(lngs[i])) n++;
+        }
+        int[] order = new int[n];
+        int k = 0;
+        for (int i = 0; i < lats.length; i++) {
+            if (Double.isNaN(lats[i]) || Double.isNaN(lngs[i])) continue;
+            xyz[i] = toXyz(lats[i], lngs[i]);
+            order[k++] = i;
+        }
+        ShelterKdTree tree = new ShelterKdTree(order, xyz);
+        tree.build(0, n, 0);
+        return tree;
+    }
+
+    int size() {
+        return order.length;
+    }
+
+    /** 가까운 순 항목 인덱스 최대 k 개 */
+    int[] nearest(double lat, double lng, int k) {
+        int limit = Math.min(k, order.length);
+        if (limit <= 0) return new int[0];
+
+        Best best = new Best(limit);
+        search(0, order.length, 0, toXyz(lat, lng), best);
+        int[] out = new int[best.count];
+        System.arraycopy(best.idx, 0, out, 0, best.count);
+        return out;
+    }
+
+    private void build(int lo, int hi, int depth) {
+        if (hi - lo <= 1) return;
+        int axis = depth % 3;
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, axis);
+        build(lo, mid, depth + 1);
+        build(mid + 1, hi, depth + 1);
+    }
+
+    private void search(int lo, int hi, int depth, double[] q, Best best) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        int item = order[mid];
+        double[] p = xyz[item];
+        best.offer(item, dist2(q, p));
+
+        int axis = depth % 3;
+        double diff = q[axis] - p[axis];
+        if (diff < 0) {
+            search(lo, mid, depth + 1, q, best);
+            if (!best.full() || diff * diff < best.worst()) search(mid + 1, hi, depth + 1, q, best);
+        } else {
+            search(mid + 1, hi, depth + 1, q, best);
+            if (!best.full() || diff * diff < best.worst()) search(lo, mid, depth + 1, q, best);
+        }
+    }
+
+    // quickselect: order[lo..hi] 에서 nth 위치에 axis 기준 nth 원소가 오도록 배치
+    private void select(int lo, int hi, int nth, int axis) {
+        while (lo < hi) {
+            double pivot = xyz[order[(lo + hi) >>> 1]][axis];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (xyz[order[i]][axis] < pivot) i++;
+                while (xyz[order[j]][axis] > pivot) j--;
+                if (i <= j) {
+                    int t = order[i]; order[i] = order[j]; order[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            if (nth <= j) hi = j;
+            else if (nth >= i) lo = i;
+            else return;
+        }
+    }
+
+    private static double[] toXyz(double lat, double lng) {
+        double phi = Math.toRadians(lat);
+        double lambda = Math.toRadians(lng);
+        double cos = Math.cos(phi);
+        return new double[] { cos * Math.cos(lambda), cos * Math.sin(lambda), Math.sin(phi) };
+    }
+
+    private static double dist2(double[] a, double[] b) {
+        double dx = a[0] - b[0], dy = a[1] - b[1], dz = a[2] - b[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /** 거리 오름차순으로 유지하는 상위 k 목록 (k 가 작아 삽입 정렬) */
+    private static final class Best {
+        final int[] idx;
+        final double[] d2;
+        int count = 0;
+
+        Best(int k) {
+            idx = new int[k];
+            d2 = new double[k];
+        }
+
+        boolean full() {
+            return count == idx.length;
+        }
+
+        double worst() {
+            return d2[count - 1];
+        }
+
+        void offer(int item, double dist2) {
+            if (full() && dist2 >= worst()) return;
+            int pos = full() ? count - 1 : count++;
+            while (pos > 0 && d2[pos - 1] > dist2) {
+                idx[pos] = idx[pos - 1];
+                d2[pos] = d2[pos - 1];
+                pos--;
+            }
+            idx[pos] = item;
+            d2[pos] = dist2;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.animal.service.shelter;
+
+import java.util.Locale;
+
+/**
+ * 보호소 목록 필터 조건 (스냅샷 필터링과 upstream 응답 스트리밍 파싱에서 같은 규칙 사용).
+ * - orgNm: 관할기관 부분 일치 (원문 비교)
+ * - search: 공백으로 나눈 모든 토큰이 보호소명/관할기관/주소 소문자 연결 문자열에 포함
+ */
+public final class ShelterMatcher {
+
+    public static final ShelterMatcher ALL = new ShelterMatcher(null, new String[0]);
+
+    private static final char SEP = '\u0001';
+
+    private final String orgNm;
+    private final String[] tokens;
+
+    private ShelterMatcher(String orgNm, String[] tokens) {
+        this.orgNm = orgNm;
+        this.tokens = tokens;
+    }
+
+    public static ShelterMatcher of(String orgNm, String search) {
+        String org = (orgNm == null || orgNm.isBlank()) ? null : orgNm.trim();
+        String[] tokens = (search == null || search.isBlank())
+                ? new String[0]
+                : search.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        return org == null && tokens.length == 0 ? ALL : new ShelterMatcher(org, tokens);
+    }
+
+    public boolean matchesAll() {
+        return this == ALL;
+    }
+
+    /** 검색 토큰이 있을 때만 haystack 이 필요 (needsHaystack 가 false 면 null 허용) */
+    public boolean needsHaystack() {
+        return tokens.length > 0;
+    }
+
+    public boolean matches(String rawOrgNm, String haystack) {
+        if (orgNm != null && (rawOrgNm == null || !rawOrgNm.contains(orgNm))) return false;
+        for (String t : tokens) {
+            if (!haystack.contains(t)) return false;
+        }
+        return true;
+    }
+
+    /** 검색 대상 문자열: 보호소명/관할기관/도로명 주소/지번 주소 소문자 연결 */
+    public static String haystack(String careNm, String orgNm, String careAddr, String jibunAddr) {
+        return lower(careNm) + SEP + lower(orgNm) + SEP + lower(careAddr) + SEP + lower(jibunAddr);
+    }
+
+    private static String lower(String s) {
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+}
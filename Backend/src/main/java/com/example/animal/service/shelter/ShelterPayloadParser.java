@@ -0,0 +1,325 @@
+package com.example.animal.service.shelter;
+
+import com.example.animal.dto.ShelterPage;
+import com.example.animal.dto.ShelterResponseDto.Item;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 보호소 API 응답 토큰 단위 파서.
+ * - 공용 ObjectMapper 의 JsonFactory 로 토큰 단위 파싱 (요청마다 ObjectMapper/JsonNode 트리 생성 없음)
+ * - InputStream 입력은 upstream 본문을 읽는 대로 파싱 → 본문 전체 문자열을 만들지 않음 (스냅샷 적재)
+ * - String 입력은 캐시에 이미 있는 본문용 (추가 트리/DTO 생성만 줄임)
+ * - 좌표(lat/lng)와 인원·시설 수는 여기서 한 번만 숫자로 변환
+ * - item 필드 값을 재사용 배열에 먼저 읽고 필터를 통과한 항목만 DTO 로 만든다
+ * - items 가 "" 이거나 item 이 단일 객체로 오는 경우 모두 처리
+ */
+@Component
+public class ShelterPayloadParser {
+
+    private static final Map<String, Integer> FIELD_INDEX = new HashMap<>();
+    private static final List<BiConsumer<Item, String>> SETTERS = new ArrayList<>();
+
+    static {
+        field("dataStdDt", Item::setDataStdDt);
+        field("careNm", Item::setCareNm);
+        field("careRegNo", Item::setCareRegNo);
+        field("orgNm", Item::setOrgNm);
+        field("divisionNm", Item::setDivisionNm);
+        field("saveTrgtAnimal", Item::setSaveTrgtAnimal);
+        field("careAddr", Item::setCareAddr);
+        field("jibunAddr", Item::setJibunAddr);
+        field("lat", (it, v) -> it.setLat(parseCoord(v, 90)));
+        field("lng", (it, v) -> it.setLng(parseCoord(v, 180)));
+        field("dsignationDate", Item::setDsignationDate);
+        field("weekOprStime", Item::setWeekOprStime);
+        field("weekOprEtime", Item::setWeekOprEtime);
+        field("weekCellStime", Item::setWeekCellStime);
+        field("weekCellEtime", Item::setWeekCellEtime);
+        field("weekendOprStime", Item::setWeekendOprStime);
+        field("weekendOprEtime", Item::setWeekendOprEtime);
+        field("weekendCellStime", Item::setWeekendCellStime);
+        field("weekendCellEtime", Item::setWeekendCellEtime);
+        field("closeDay", Item::setCloseDay);
+        field("vetPersonCnt", (it, v) -> it.setVetPersonCnt(parseCount(v)));
+        field("specsPersonCnt", (it, v) -> it.setSpecsPersonCnt(parseCount(v)));
+        field("medicalCnt", (it, v) -> it.setMedicalCnt(parseCount(v)));
+        field("breedCnt", (it, v) -> it.setBreedCnt(parseCount(v)));
+        field("quarabtineCnt", (it, v) -> it.setQuarabtineCnt(parseCount(v)));
+        field("feedCnt", (it, v) -> it.setFeedCnt(parseCount(v)));
+        field("transCarCnt", (it, v) -> it.setTransCarCnt(parseCount(v)));
+        field("careTel", Item::setCareTel);
+    }
+
+    private static void field(String name, BiConsumer<Item, String> setter) {
+        FIELD_INDEX.put(name, SETTERS.size());
+        SETTERS.add(setter);
+    }
+
+    // 공공데이터포털 XML 오류 응답 (<OpenAPI_ServiceResponse><cmmMsgHeader>...) 의 사유 태그
+    private static final Pattern XML_REASON = Pattern.compile("<(returnAuthMsg|resultMsg|errMsg)>\\s*([^<]*?)\\s*</\\1>");
+
+    private static final int CARE_NM = FIELD_INDEX.get("careNm");
+    private static final int ORG_NM = FIELD_INDEX.get("orgNm");
+    private static final int CARE_ADDR = FIELD_INDEX.get("careAddr");
+    private static final int JIBUN_ADDR = FIELD_INDEX.get("jibunAddr");
+
+    private final JsonFactory jsonFactory;
+
+    public ShelterPayloadParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /** 전체 항목 */
+    public ShelterPage parse(String body) {
+        return parse(body, ShelterMatcher.ALL);
+    }
+
+    /** matcher 를 통과한 항목만 (totalCount 는 upstream 전체 건수 그대로) */
+    public ShelterPage parse(String body, ShelterMatcher matcher) {
+        try (JsonParser p = jsonFactory.createParser(body == null || body.isBlank() ? "{}" : body)) {
+            return parse(p, matcher);
+        } catch (IOException e) {
+            throw new IllegalStateException("보호소 API 응답 파싱 실패", e);
+        }
+    }
+
+    /** 응답 스트림을 읽으면서 전체 항목 파싱 (스트림은 닫는다, 인코딩은 호출자가 해제) */
+    public ShelterPage parse(InputStream body) {
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            return parse(p, ShelterMatcher.ALL);
+        } catch (IOException e) {
+            throw new IllegalStateException("보호소 API 응답 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 정상 응답이면 null, 아니면 오류 사유.
+     * 공공데이터포털은 인증키 오류/호출 한도 초과 등도 HTTP 200 으로 보낸다
+     * (JSON header.resultCode 가 00 이 아니거나, _type 과 무관하게 XML 오류 본문).
+     * header 까지만 읽고 멈추므로 본문 items 는 해석하지 않는다.
+     */
+    public String resultError(String body) {
+        String t = body == null ? "" : body.stripLeading();
+        if (t.isEmpty()) return "빈 응답";
+        if (t.startsWith("<")) {
+            // returnAuthMsg(SERVICE_KEY_IS_NOT_REGISTERED_ERROR 등)가 있으면 그것을, 없으면 처음 나온 메시지
+            String reason = null;
+            for (Matcher m = XML_REASON.matcher(t); m.find(); ) {
+                if (reason == null || "returnAuthMsg".equals(m.group(1))) reason = m.group(2);
+            }
+            return "XML 응답 " + (reason == null ? "(사유 없음)" : reason);
+        }
+        try (JsonParser p = jsonFactory.createParser(t)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) return "JSON 객체가 아닌 응답";
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                p.nextToken();
+                if (!"response".equals(name) || p.currentToken() != JsonToken.START_OBJECT) {
+                    p.skipChildren();
+                    continue;
+                }
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    p.nextToken();
+                    if (!"header".equals(field)) {
+                        p.skipChildren();
+                        continue;
+                    }
+                    Result header = new Result(ShelterMatcher.ALL);
+                    readHeader(p, header);
+                    return isOk(header.resultCode) ? null : "resultCode " + header.resultCode + " " + header.resultMsg;
+                }
+            }
+            return "header 없는 응답";
+        } catch (IOException e) {
+            return "응답 파싱 실패: " + e.getMessage();
+        }
+    }
+
+    private static boolean isOk(String resultCode) {
+        return "00".equals(resultCode) || "0".equals(resultCode);
+    }
+
+    private ShelterPage parse(JsonParser p, ShelterMatcher matcher) {
+        try {
+            Result result = new Result(matcher);
+            if (p.nextToken() == JsonToken.START_OBJECT) {
+                forEachField(p, name -> {
+                    if ("response".equals(name)) readResponse(p, result);
+                    else p.skipChildren();
+                });
+            }
+            if (result.resultCode != null && !isOk(result.resultCode)) {
+                throw new IllegalStateException("보호소 API 오류: " + result.resultCode + " " + result.resultMsg);
+            }
+            return new ShelterPage(result.items, result.totalCount);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("보호소 API 응답 파싱 실패", e);
+        }
+    }
+
+    private void readResponse(JsonParser p, Result result) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        forEachField(p, name -> {
+            switch (name) {
+                case "header" -> readHeader(p, result);
+                case "body" -> readBody(p, result);
+                default -> p.skipChildren();
+            }
+        });
+    }
+
+    private void readHeader(JsonParser p, Result result) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        forEachField(p, name -> {
+            switch (name) {
+                case "resultCode" -> result.resultCode = p.getValueAsString();
+                case "resultMsg" -> result.resultMsg = p.getValueAsString();
+                default -> p.skipChildren();
+            }
+        });
+    }
+
+    private void readBody(JsonParser p, Result result) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        forEachField(p, name -> {
+            switch (name) {
+                case "totalCount" -> result.totalCount = p.getValueAsInt(0);
+                case "items" -> readItems(p, result);
+                default -> p.skipChildren();
+            }
+        });
+    }
+
+    private void readItems(JsonParser p, Result result) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {  // items: "" (결과 없음)
+            p.skipChildren();
+            return;
+        }
+        forEachField(p, name -> {
+            if (!"item".equals(name)) {
+                p.skipChildren();
+                return;
+            }
+            if (p.currentToken() == JsonToken.START_ARRAY) {
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    readItem(p, result);
+                }
+            } else {
+                readItem(p, result);
+            }
+        });
+    }
+
+    // 값은 재사용 배열에 먼저 읽고, 필터 통과 시에만 DTO 생성
+    private void readItem(JsonParser p, Result result) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        String[] values = result.scratch;
+        Arrays.fill(values, null);
+        forEachField(p, name -> {
+            Integer idx = FIELD_INDEX.get(name);
+            if (idx != null && p.currentToken().isScalarValue()) {
+                values[idx] = p.currentToken() == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+            } else {
+                p.skipChildren();
+            }
+        });
+
+        ShelterMatcher matcher = result.matcher;
+        if (!matcher.matchesAll()) {
+            String haystack = matcher.needsHaystack()
+                    ? ShelterMatcher.haystack(values[CARE_NM], values[ORG_NM], values[CARE_ADDR], values[JIBUN_ADDR])
+                    : null;
+            if (!matcher.matches(values[ORG_NM], haystack)) return;
+        }
+
+        Item item = new Item();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) SETTERS.get(i).accept(item, values[i]);
+        }
+        result.items.add(item);
+    }
+
+    // 빈 값/숫자 아님/범위 밖/0(미입력) 은 null
+    static Double parseCoord(String s, double bound) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            double v = Double.parseDouble(s.trim());
+            return (v == 0 || Double.isNaN(v) || v < -bound || v > bound) ? null : v;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // "3" / "3명" / " 3 " → 3, 숫자가 없으면 null
+    static Integer parseCount(String s) {
+        if (s == null) return null;
+        int n = 0, digits = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits++ > 8) return null;
+                n = n * 10 + (c - '0');
+            } else if (digits > 0) {
+                break;
+            }
+        }
+        return digits == 0 ? null : n;
+    }
+
+    /** 현재 START_OBJECT 의 필드마다 값 토큰으로 이동한 뒤 handler 호출 (END_OBJECT 까지) */
+    private static void forEachField(JsonParser p, FieldHandler handler) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            handler.accept(name);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        void accept(String name) throws IOException;
+    }
+
+    private static final class Result {
+        final ShelterMatcher matcher;
+        final String[] scratch = new String[SETTERS.size()];
+        final List<Item> items = new ArrayList<>();
+        String resultCode;
+        String resultMsg;
+        int totalCount;
+
+        Result(ShelterMatcher matcher) {
+            this.matcher = matcher;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.animal.service.shelter;
+
+import com.example.animal.dto.MapClusterDto;
+import com.example.animal.dto.ShelterResponseDto;
+import com.example.animal.dto.ShelterSummaryDto;
+import com.example.animal.service.geo.GeoClusterIndex;
+import com.example.animal.util.GeoDistance;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보호소 전체 목록의 불변 스냅샷.
+ * - 적재 시 검색용 소문자 필드를 한 번만 만들어 두고, 요청마다 전체를 선형 필터링 (ShelterMatcher)
+ * - 좌표(파서가 숫자로 변환한 값)를 double 배열로 옮겨 k-d 트리를 만들어 둠 (최근접 검색)
+ * - 운영시간 문자열도 주 단위 분 구간(ShelterHours)으로 미리 변환
+ * - careRegNo → 보호소 요약 해시 맵 (유기견 응답 보강용)
+ * - 지도 클러스터용 geohash 접두어 집계도 스냅샷마다 새로 만든다 (careRegNo 없는 보호소 제외)
+ * - 교체는 참조 하나를 바꾸는 방식이라 읽는 쪽은 잠금 없이 사용
+ * (items 의 DTO 는 공유 객체이므로 수정하지 않는다)
+ */
+public final class ShelterSnapshot {
+
+    private final List<ShelterResponseDto.Item> items;
+    private final String[] orgNms;     // 관할기관 (원문, contains 비교)
+    private final String[] haystacks;  // 보호소명/관할기관/주소 소문자 연결
+    private final double[] lats;       // 좌표 없음/비정상이면 NaN
+    private final double[] lngs;
+    private final ShelterKdTree tree;
+    private final ShelterHours[] hours;
+    private final Map<String, ShelterSummaryDto> summariesByRegNo;
+    private final GeoClusterIndex<String> clusters = new GeoClusterIndex<>();
+    private final LocalDateTime loadedAt;
+
+    public ShelterSnapshot(List<ShelterResponseDto.Item> items, LocalDateTime loadedAt) {
+        this.items = List.copyOf(items);
+        this.loadedAt = loadedAt;
+        this.orgNms = new String[this.items.size()];
+        this.haystacks = new String[this.items.size()];
+        this.lats = new double[this.items.size()];
+        this.lngs = new double[this.items.size()];
+        this.hours = new ShelterHours[this.items.size()];
+        this.summariesByRegNo = new HashMap<>(Math.max(16, this.items.size() * 2));
+        for (int i = 0; i < this.items.size(); i++) {
+            ShelterResponseDto.Item it = this.items.get(i);
+            orgNms[i] = it.getOrgNm() == null ? "" : it.getOrgNm();
+            haystacks[i] = ShelterMatcher.haystack(it.getCareNm(), it.getOrgNm(), it.getCareAddr(), it.getJibunAddr());
+            lats[i] = it.getLat() == null ? Double.NaN : it.getLat();
+            lngs[i] = it.getLng() == null ? Double.NaN : it.getLng();
+            if (Double.isNaN(lats[i]) || Double.isNaN(lngs[i])) {
+                lats[i] = Double.NaN;
+                lngs[i] = Double.NaN;
+            }
+            hours[i] = ShelterHours.parse(it);
+            if (it.getCareRegNo() != null && !it.getCareRegNo().isBlank()) {
+                summariesByRegNo.putIfAbsent(it.getCareRegNo().trim(), toSummary(it, lats[i], lngs[i]));
+                if (!Double.isNaN(lats[i])) clusters.put(it.getCareRegNo().trim(), lats[i], lngs[i]);
+            }
+        }
+        this.tree = ShelterKdTree.build(lats, lngs);
+    }
+
+    public static ShelterSnapshot empty() {
+        return new ShelterSnapshot(List.of(), LocalDateTime.now());
+    }
+
+    /** orgNm: 관할기관 부분 일치, search: 공백으로 나눈 모든 토큰이 이름/기관/주소 중 하나에 포함 */
+    public List<ShelterResponseDto.Item> filter(String orgNm, String search) {
+        int[] idx = match(ShelterMatcher.of(orgNm, search), -1);
+        if (idx.length == items.size()) return items;
+        List<ShelterResponseDto.Item> out = new ArrayList<>(idx.length);
+        for (int i : idx) out.add(items.get(i));
+        return out;
+    }
+
+    /**
+     * 조건에 맞는 항목 인덱스 (스냅샷 순서).
+     * openMinuteOfWeek >= 0 이면 그 시각에 운영 중인 보호소만 (운영시간 정보 없는 곳 제외, openOnly 조회 전용)
+     */
+    public int[] match(ShelterMatcher matcher, int openMinuteOfWeek) {
+        int[] out = new int[items.size()];
+        int n = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (!matcher.matches(orgNms[i], haystacks[i])) continue;
+            if (openMinuteOfWeek >= 0 && !hours[i].isOpenAt(openMinuteOfWeek)) continue;
+            out[n++] = i;
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    public ShelterResponseDto.Item item(int index) {
+        return items.get(index);
+    }
+
+    public ShelterHours hours(int index) {
+        return hours[index];
+    }
+
+    /** careRegNo 로 보호소 요약 조회 (없으면 null) */
+    public ShelterSummaryDto summary(String careRegNo) {
+        return careRegNo == null ? null : summariesByRegNo.get(careRegNo.trim());
+    }
+
+    /** 기준점에서 가까운 보호소 최대 k 곳 (좌표 없는 보호소 제외) */
+    public List<Nearby> nearest(double lat, double lng, int k) {
+        int[] found = tree.nearest(lat, lng, k);
+        List<Nearby> out = new ArrayList<>(found.length);
+        for (int i : found) {
+            out.add(new Nearby(items.get(i), GeoDistance.haversineKm(lat, lng, lats[i], lngs[i])));
+        }
+        return out;
+    }
+
+    /** 지도 클러스터 (대표 id = careRegNo) */
+    public List<MapClusterDto<String>> clusters(double minLat, double minLng, double maxLat, double maxLng, int precision) {
+        return clusters.clusters(minLat, minLng, maxLat, maxLng, precision);
+    }
+
+    public List<ShelterResponseDto.Item> items() {
+        return items;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    private static ShelterSummaryDto toSummary(ShelterResponseDto.Item it, double lat, double lng) {
+        String address = it.getCareAddr() == null || it.getCareAddr().isBlank() ? it.getJibunAddr() : it.getCareAddr();
+        return new ShelterSummaryDto(it.getCareRegNo().trim(), it.getCareNm(), it.getCareTel(), address,
+                Double.isNaN(lat) ? null : lat, Double.isNaN(lng) ? null : lng);
+    }
+
+    public record Nearby(ShelterResponseDto.Item shelter, double distanceKm) {}
+}
@@ -0,0 +1,142 @@
+package com.example.animal.service.shelter;
+
+import com.example.animal.dto.ShelterPage;
+import com.example.animal.dto.ShelterResponseDto;
+import com.example.animal.dto.ShelterSnapshotReportDto;
+import com.example.animal.dto.ShelterSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보호소 전체 목록을 주기적으로 받아 메모리 스냅샷으로 보관.
+ * - 1페이지로 전체 건수를 알아낸 뒤 나머지 페이지를 병렬 호출
+ *   (호출 속도/예산은 PublicApiQuotaGovernor 가 백그라운드 우선순위로 제한)
+ * - 모든 페이지가 성공했을 때만 새 스냅샷으로 교체, 실패하면 기존 스냅샷 유지
+ */
+@Slf4j
+@Service
+public class ShelterSnapshotService {
+
+    private final ShelterApiClient shelterApiClient;
+
+    private final boolean enabled;
+    private final int pageSize;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile ShelterSnapshot snapshot = ShelterSnapshot.empty();
+
+    public ShelterSnapshotService(ShelterApiClient shelterApiClient,
+                                  @Value("${app.shelter.snapshot.enabled:true}") boolean enabled,
+                                  @Value("${app.shelter.snapshot.page-size:1000}") int pageSize,
+                                  @Value("${app.shelter.snapshot.parallelism:4}") int parallelism) {
+        this.shelterApiClient = shelterApiClient;
+        this.enabled = enabled;
+        this.pageSize = Math.max(pageSize, 1);
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${app.shelter.snapshot.interval-ms:21600000}",
+               initialDelayString = "${app.shelter.snapshot.initial-delay-ms:10000}")
+    public void scheduledRefresh() {
+        if (!enabled) return;
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("보호소 스냅샷 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /** 현재 스냅샷 (적재 전이면 빈 스냅샷) */
+    public ShelterSnapshot current() {
+        return snapshot;
+    }
+
+    /** careRegNo → 보호소 요약 (스냅샷 해시 맵 조회, 없으면 null) */
+    public ShelterSummaryDto findSummary(String careRegNo) {
+        return snapshot.summary(careRegNo);
+    }
+
+    public boolean isReady() {
+        return !snapshot.isEmpty();
+    }
+
+    public ShelterSnapshotReportDto refresh() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 보호소 스냅샷을 갱신 중입니다.");
+        }
+        try {
+            return doRefresh();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ShelterSnapshotReportDto doRefresh() {
+        long started = System.nanoTime();
+
+        ShelterPage first = shelterApiClient.fetchPage(1, pageSize);
+        int pages = Math.max(1, (first.totalCount() + pageSize - 1) / pageSize);
+
+        List<ShelterPage> results = new ArrayList<>(pages);
+        results.add(first);
+        if (pages > 1) {
+            results.addAll(fetchRemaining(pages));
+        }
+
+        // 페이지 경계에서 중복으로 들어온 보호소는 careRegNo 기준 하나만
+        Map<Object, ShelterResponseDto.Item> byRegNo = new LinkedHashMap<>();
+        for (ShelterPage page : results) {
+            for (ShelterResponseDto.Item item : page.items()) {
+                Object key = item.getCareRegNo() == null || item.getCareRegNo().isBlank()
+                        ? new Object() : item.getCareRegNo();
+                byRegNo.putIfAbsent(key, item);
+            }
+        }
+
+        ShelterSnapshot next = new ShelterSnapshot(new ArrayList<>(byRegNo.values()), LocalDateTime.now());
+        snapshot = next;
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("보호소 스냅샷 갱신: {}곳, {}페이지, {}ms", next.size(), pages, elapsedMs);
+        return new ShelterSnapshotReportDto(next.size(), pages, elapsedMs);
+    }
+
+    private List<ShelterPage> fetchRemaining(int pages) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, pages - 1));
+        try {
+            List<Future<ShelterPage>> futures = new ArrayList<>(pages - 1);
+            for (int p = 2; p <= pages; p++) {
+                int pageNo = p;
+                futures.add(pool.submit(() -> shelterApiClient.fetchPage(pageNo, pageSize)));
+            }
+            List<ShelterPage> out = new ArrayList<>(futures.size());
+            for (Future<ShelterPage> f : futures) {
+                out.add(f.get());
+            }
+            return out;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("보호소 스냅샷 갱신 중단", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.animal.service.similar;
+
+import com.example.animal.dto.SimilarityReportDto;
+import com.example.animal.util.GeoDistance;
+import com.example.animal.util.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 유기견별 "비슷한 아이들" 상위 N 건을 dog_similarity 에 사전 계산.
+ * - 블로킹: 같은 정규 품종(species_canonical)끼리만 비교, 블록이 MAX_BLOCK_SIZE 를 넘으면 발견 위치 geohash-4 로,
+ *   그래도 넘으면 발견일 FOUND_WINDOW_DAYS 구간, 그래도 넘으면 id 해시 버킷으로 나눔 (비교 횟수 상한).
+ *   모두 행 자신의 값으로 정해지는 키라 다른 행이 보관/삭제돼도 경계가 움직이지 않음
+ * - 점수: 색상 마스크 Jaccard, 추정 출생 연월 차이, 성별, 발견 위치 거리, 발견일 차이 가중합 (0~1)
+ * - 증분: 아직 계산하지 않은 행(similarity_computed_at 없음)은 목록을 만들고,
+ *   신규 행이 기존 목록 최저점보다 높은 블록 멤버만 다시 계산 (이웃이 없어 목록이 비어도 계산 시각은 기록)
+ * - 같은 중복 클러스터(dup_cluster_id)는 동일 개체이므로 제외
+ * (이미지 임베딩 유사도는 AI 서비스에 인접 목록 API 가 생기면 점수에 합산)
+ */
+@Slf4j
+@Service
+public class DogSimilarityService {
+
+    private static final int IN_CHUNK = 1000;
+    static final int MAX_BLOCK_SIZE = 2000;
+    private static final int SPLIT_GEOHASH_PRECISION = 4;  // ≈ 39km x 20km
+    private static final int FOUND_WINDOW_DAYS = 90;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int topN;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DogSimilarityService(JdbcTemplate jdbcTemplate,
+                                NamedParameterJdbcTemplate namedJdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.similarity.enabled:true}") boolean enabled,
+                                @Value("${app.similarity.top-n:10}") int topN) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.topN = topN;
+    }
+
+    @Scheduled(fixedDelayString = "${app.similarity.interval-ms:600000}",
+               initialDelayString = "${app.similarity.initial-delay-ms:180000}")
+    public void scheduledIncremental() {
+        if (!enabled) return;
+        runSafely(false);
+    }
+
+    /** 삭제/보관·속성 변경까지 반영하는 전체 재계산 */
+    @Scheduled(cron = "${app.similarity.full-cron:0 0 4 * * SUN}")
+    public void scheduledFull() {
+        if (!enabled) return;
+        runSafely(true);
+    }
+
+    private void runSafely(boolean full) {
+        try {
+            refresh(full);
+        } catch (RuntimeException e) {
+            log.warn("유사 개체 목록 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public SimilarityReportDto refresh(boolean full) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 유사 개체 목록을 갱신 중입니다.");
+        }
+        try {
+            return doRefresh(full);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private SimilarityReportDto doRefresh(boolean full) {
+        long started = System.nanoTime();
+
+        List<Row> rows = jdbcTemplate.query("""
+                SELECT id, species_canonical, color_mask, gender, birth_ym, found_date, lat, lng, dup_cluster_id
+                FROM dog_details WHERE species_canonical IS NOT NULL
+                """,
+                (rs, i) -> new Row(
+                        rs.getLong(1), rs.getString(2), (Integer) rs.getObject(3), rs.getString(4),
+                        (Integer) rs.getObject(5),
+                        rs.getDate(6) == null ? null : rs.getDate(6).toLocalDate().toEpochDay(),
+                        (Double) rs.getObject(7), (Double) rs.getObject(8), (Long) rs.getObject(9)));
+
+        Map<String, List<Row>> blocks = blocks(rows);
+
+        Set<Long> targets = new HashSet<>();
+        long newRows = 0;
+
+        if (full) {
+            for (Row r : rows) targets.add(r.id());
+        } else {
+            Set<Long> newIds = new HashSet<>(jdbcTemplate.queryForList("""
+                    SELECT id FROM dog_details
+                    WHERE similarity_computed_at IS NULL AND species_canonical IS NOT NULL
+                    """, Long.class));
+            newRows = newIds.size();
+            targets.addAll(newIds);
+            targets.addAll(affectedByNewRows(blocks, newIds));
+        }
+
+        // 블록 단위로 목록 계산 → 목록 단위로 교체
+        List<Object[]> batch = new ArrayList<>();
+        List<Long> batchDogIds = new ArrayList<>();
+        long updated = 0;
+
+        for (List<Row> block : blocks.values()) {
+            for (Row r : block) {
+                if (!targets.contains(r.id())) continue;
+                List<Neighbor> top = topNeighbors(r, block);
+                batchDogIds.add(r.id());
+                for (int i = 0; i < top.size(); i++) {
+                    batch.add(new Object[] { r.id(), i + 1, top.get(i).id(), top.get(i).score() });
+                }
+                updated++;
+                if (batchDogIds.size() >= IN_CHUNK) {
+                    replaceLists(batchDogIds, batch);
+                    batchDogIds = new ArrayList<>();
+                    batch = new ArrayList<>();
+                }
+            }
+        }
+        if (!batchDogIds.isEmpty()) replaceLists(batchDogIds, batch);
+
+        if (full) {
+            // 더 이상 dog_details 에 없는(보관/삭제) 개체의 목록 정리
+            jdbcTemplate.update("""
+                    DELETE s FROM dog_similarity s
+                    LEFT JOIN dog_details d ON d.id = s.dog_id
+                    WHERE d.id IS NULL
+                    """);
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("유사 개체 목록 갱신(full={}): rows={}, new={}, updated={}, {}ms",
+                full, rows.size(), newRows, updated, elapsedMs);
+        return new SimilarityReportDto(full, rows.size(), newRows, updated, elapsedMs);
+    }
+
+    // 신규 행이 기존 목록의 최저점보다 높거나, 목록이 N 건 미만인 블록 멤버
+    private Set<Long> affectedByNewRows(Map<String, List<Row>> blocks, Set<Long> newIds) {
+        if (newIds.isEmpty()) return Set.of();
+        Map<String, List<Row>> newByBlock = new HashMap<>();
+        List<Long> memberIds = new ArrayList<>();
+        for (Map.Entry<String, List<Row>> block : blocks.entrySet()) {
+            List<Row> fresh = block.getValue().stream().filter(r -> newIds.contains(r.id())).toList();
+            if (fresh.isEmpty()) continue;
+            newByBlock.put(block.getKey(), fresh);
+            for (Row r : block.getValue()) if (!newIds.contains(r.id())) memberIds.add(r.id());
+        }
+
+        Map<Long, float[]> minAndCount = new HashMap<>();
+        for (int from = 0; from < memberIds.size(); from += IN_CHUNK) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + IN_CHUNK, memberIds.size()));
+            namedJdbcTemplate.query(
+                    "SELECT dog_id, MIN(score), COUNT(*) FROM dog_similarity WHERE dog_id IN (:ids) GROUP BY dog_id",
+                    new MapSqlParameterSource("ids", chunk),
+                    rs -> {
+                        minAndCount.put(rs.getLong(1), new float[] { rs.getFloat(2), rs.getInt(3) });
+                    });
+        }
+
+        Set<Long> affected = new HashSet<>();
+        for (Map.Entry<String, List<Row>> e : newByBlock.entrySet()) {
+            for (Row member : blocks.get(e.getKey())) {
+                if (newIds.contains(member.id())) continue;
+                float[] mc = minAndCount.get(member.id());
+                for (Row fresh : e.getValue()) {
+                    if (sameDog(member, fresh)) continue;
+                    if (mc == null || mc[1] < topN || score(member, fresh) > mc[0]) {
+                        affected.add(member.id());
+                        break;
+                    }
+                }
+            }
+        }
+        return affected;
+    }
+
+    private void replaceLists(List<Long> dogIds, List<Object[]> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            namedJdbcTemplate.update("DELETE FROM dog_similarity WHERE dog_id IN (:ids)",
+                    new MapSqlParameterSource("ids", dogIds));
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO dog_similarity (dog_id, rank_no, similar_id, score) VALUES (?, ?, ?, ?)", rows);
+            }
+            namedJdbcTemplate.update("UPDATE dog_details SET similarity_computed_at = NOW() WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", dogIds));
+        });
+    }
+
+    // 품종 블록 → (너무 크면) geohash-4 → (그래도 크면) 발견일 구간 → (그래도 크면) id 해시 버킷
+    static Map<String, List<Row>> blocks(List<Row> rows) {
+        Map<String, List<Row>> bySpecies = new HashMap<>();
+        for (Row r : rows) bySpecies.computeIfAbsent(r.species(), k -> new ArrayList<>()).add(r);
+
+        Map<String, List<Row>> blocks = new HashMap<>();
+        for (Map.Entry<String, List<Row>> e : bySpecies.entrySet()) {
+            if (e.getValue().size() <= MAX_BLOCK_SIZE) {
+                blocks.put(e.getKey(), e.getValue());
+                continue;
+            }
+            Map<String, List<Row>> byCell = new HashMap<>();
+            for (Row r : e.getValue()) {
+                String cell = r.lat() == null || r.lng() == null
+                        ? "?" : GeoHash.encode(r.lat(), r.lng(), SPLIT_GEOHASH_PRECISION);
+                byCell.computeIfAbsent(e.getKey() + "|" + cell, k -> new ArrayList<>()).add(r);
+            }
+            for (Map.Entry<String, List<Row>> c : byCell.entrySet()) {
+                if (c.getValue().size() <= MAX_BLOCK_SIZE) {
+                    blocks.put(c.getKey(), c.getValue());
+                    continue;
+                }
+                Map<String, List<Row>> byWindow = new HashMap<>();
+                for (Row r : c.getValue()) {
+                    String window = r.foundDay() == null ? "?" : Long.toString(Math.floorDiv(r.foundDay(), FOUND_WINDOW_DAYS));
+                    byWindow.computeIfAbsent(c.getKey() + "@" + window, k -> new ArrayList<>()).add(r);
+                }
+                for (Map.Entry<String, List<Row>> w : byWindow.entrySet()) {
+                    splitByIdHash(w.getKey(), w.getValue(), blocks);
+                }
+            }
+        }
+        return blocks;
+    }
+
+    // 버킷 수는 2의 거듭제곱으로 올림 → 행 수가 두 배를 넘나들 때만 바뀌고, 그 사이엔 행마다 버킷 고정
+    private static void splitByIdHash(String key, List<Row> rows, Map<String, List<Row>> blocks) {
+        if (rows.size() <= MAX_BLOCK_SIZE) {
+            blocks.put(key, rows);
+            return;
+        }
+        int buckets = Integer.highestOneBit((rows.size() + MAX_BLOCK_SIZE - 1) / MAX_BLOCK_SIZE - 1) << 1;
+        for (Row r : rows) {
+            int b = (int) ((Long.hashCode(r.id()) * 0x9E3779B9L >>> 16) & (buckets - 1));
+            blocks.computeIfAbsent(key + "#" + b, k -> new ArrayList<>()).add(r);
+        }
+    }
+
+    private List<Neighbor> topNeighbors(Row self, List<Row> block) {
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(
+                Comparator.comparingDouble(Neighbor::score).thenComparing(Neighbor::id, Comparator.reverseOrder()));
+        for (Row other : block) {
+            if (other.id() == self.id() || sameDog(self, other)) continue;
+            heap.offer(new Neighbor(other.id(), score(self, other)));
+            if (heap.size() > topN) heap.poll();
+        }
+        List<Neighbor> out = new ArrayList<>(heap);
+        out.sort(Comparator.comparingDouble(Neighbor::score).reversed().thenComparing(Neighbor::id));
+        return out;
+    }
+
+    private static boolean sameDog(Row a, Row b) {
+        return a.dupClusterId() != null && a.dupClusterId().equals(b.dupClusterId());
+    }
+
+    static float score(Row a, Row b) {
+        double s = 0;
+        int ca = a.colorMask() == null ? 0 : a.colorMask();
+        int cb = b.colorMask() == null ? 0 : b.colorMask();
+        if (ca != 0 && cb != 0) {
+            s += 0.35 * Integer.bitCount(ca & cb) / Integer.bitCount(ca | cb);
+        }
+        if (a.birthYm() != null && b.birthYm() != null) {
+            int months = Math.abs(monthIndex(a.birthYm()) - monthIndex(b.birthYm()));
+            s += 0.2 * Math.max(0, 1 - months / 36.0);
+        }
+        if (a.gender() != null && a.gender().equals(b.gender()) && !"미상".equals(a.gender())) {
+            s += 0.1;
+        }
+        if (a.lat() != null && a.lng() != null && b.lat() != null && b.lng() != null) {
+            s += 0.25 * Math.exp(-GeoDistance.haversineKm(a.lat(), a.lng(), b.lat(), b.lng()) / 50.0);
+        }
+        if (a.foundDay() != null && b.foundDay() != null) {
+            s += 0.1 * Math.exp(-Math.abs(a.foundDay() - b.foundDay()) / 60.0);
+        }
+        return (float) s;
+    }
+
+    private static int monthIndex(int yyyymm) {
+        return (yyyymm / 100) * 12 + (yyyymm % 100);
+    }
+
+    record Row(long id, String species, Integer colorMask, String gender, Integer birthYm, Long foundDay,
+               Double lat, Double lng, Long dupClusterId) {}
+
+    private record Neighbor(long id, float score) {}
+}
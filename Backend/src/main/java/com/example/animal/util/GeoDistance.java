@@ -0,0 +1,30 @@
+package com.example.animal.util;
+
+/** 구면 거리 계산 */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    public static final double KM_PER_DEG_LAT = 111.32;
+
+    private GeoDistance() {}
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /** 반경 radiusKm 원을 감싸는 위경도 박스 [minLat, minLng, maxLat, maxLng] */
+    public static double[] boundingBox(double lat, double lng, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEG_LAT;
+        double cos = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        double dLng = radiusKm / (KM_PER_DEG_LAT * cos);
+        return new double[] {
+                Math.max(lat - dLat, -90), Math.max(lng - dLng, -180),
+                Math.min(lat + dLat, 90), Math.min(lng + dLng, 180)
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.animal.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/** geohash 인코딩 + 영역 커버 셀 계산 (공간 인덱스 버킷 키로 사용) */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {}
+
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true; // 짝수 비트 = 경도
+        int bit = 0, ch = 0;
+
+        while (sb.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) { ch = (ch << 1) | 1; minLng = mid; }
+                else { ch = ch << 1; maxLng = mid; }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) { ch = (ch << 1) | 1; minLat = mid; }
+                else { ch = ch << 1; maxLat = mid; }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                sb.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 셀 높이(위도, 도) */
+    public static double cellHeightDeg(int precision) {
+        int latBits = (precision * 5) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    /** 셀 너비(경도, 도) */
+    public static double cellWidthDeg(int precision) {
+        int lngBits = (precision * 5 + 1) / 2;
+        return 360.0 / (1L << lngBits);
+    }
+
+    /** 위경도 박스와 겹치는 모든 셀 */
+    public static Set<String> coveringCells(double minLat, double minLng, double maxLat, double maxLng, int precision) {
+        double dLat = cellHeightDeg(precision);
+        double dLng = cellWidthDeg(precision);
+        Set<String> cells = new LinkedHashSet<>();
+
+        for (double lat = minLat; ; lat += dLat) {
+            double la = Math.min(lat, maxLat);
+            for (double lng = minLng; ; lng += dLng) {
+                double ln = Math.min(lng, maxLng);
+                cells.add(encode(la, ln, precision));
+                if (ln >= maxLng) break;
+            }
+            if (la >= maxLat) break;
+        }
+        return cells;
+    }
+}
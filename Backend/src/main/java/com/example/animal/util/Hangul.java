@@ -0,0 +1,89 @@
+package com.example.animal.util;
+
+/**
+ * 한글 자모 분해 유틸.
+ * - toJamo: "닭" → "ㄷㅏㄹㄱ" (겹받침/겹모음까지 풀어서, 입력 중인 글자와도 접두어 비교 가능)
+ * - toChosung: "진돗개" → "ㅈㄷㄱ"
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 중 겹자모 → 분해형 (단독 입력된 자모 처리용)
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private Hangul() {}
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    /** 호환 자음(ㄱ~ㅎ) */
+    public static boolean isConsonantJamo(char c) {
+        return c >= 0x3131 && c <= 0x314E;
+    }
+
+    public static String toJamo(String s) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) {
+                int idx = c - SYLLABLE_BASE;
+                sb.append(CHO[idx / 588]).append(JUNG[(idx % 588) / 28]).append(JONG[idx % 28]);
+            } else {
+                int k = COMPOUND.indexOf(c);
+                if (k >= 0) sb.append(COMPOUND_SPLIT[k]);
+                else sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String toChosung(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) sb.append(CHO[(c - SYLLABLE_BASE) / 588]);
+            else sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /** 공백 외 모든 글자가 자음(초성)인지: "ㅈㄷㄱ", "ㄱㄱ ㅎㅅ" */
+    public static boolean isChosungOnly(String s) {
+        boolean any = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (!isConsonantJamo(c)) return false;
+            any = true;
+        }
+        return any;
+    }
+
+    /** 단독 자모가 하나라도 섞여 있는지 (입력 중인 글자) */
+    public static boolean containsJamo(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x3131 && c <= 0x318E) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+-- dog_details 공고번호(number) 중복 제거 + uk_dog_details_number 추가 (MySQL 8)
+--
+-- unique 키가 없던 시기에 같은 공고가 여러 번 INSERT 된 DB 에서는 ddl-auto=update 의 제약 추가가
+-- 중복 때문에 실패하고(경고 로그만 남음), 이후 upsert(ON DUPLICATE KEY)가 계속 새 행을 만든다.
+-- DogDetailsNumberKeyGuard 가 기동 시 제약이 없으면 이 스크립트를 실행하고(app.ingest.number-key.migrate-on-startup),
+-- 그래도 없으면 기동을 중단한다. 수동 실행도 가능 (여러 번 실행해도 결과 같음, 단 ALTER 는 제약이 이미 있으면 실패).
+--
+-- * 번호별로 가장 큰 id(가장 최근 적재분, 최신 상태) 한 건만 남긴다.
+-- * 지운 행을 가리키던 비슷한 유기견 목록(dog_similarity)도 정리한다. 남은 행은 다음 계산 때 다시 채워진다.
+-- * 파티션 테이블(db/partition-dog-details.sql 적용 후)은 이미 (number, found_date) 키가 있으므로 대상이 아니다.
+
+CREATE INDEX idx_dog_details_number_dedup ON dog_details (number, id);
+
+DELETE d FROM dog_details d
+    JOIN dog_details newer ON newer.number = d.number AND newer.id > d.id;
+
+DELETE s FROM dog_similarity s
+    LEFT JOIN dog_details d ON d.id = s.dog_id
+    LEFT JOIN dog_details t ON t.id = s.similar_id
+    WHERE d.id IS NULL OR t.id IS NULL;
+
+ALTER TABLE dog_details ADD CONSTRAINT uk_dog_details_number UNIQUE (number);
+
+DROP INDEX idx_dog_details_number_dedup ON dog_details;
@@ -0,0 +1,56 @@
+-- dog_details 발견일(found_date) 월 단위 RANGE 파티셔닝 (MySQL 8, 수동 1회 실행)
+--
+-- 전제/주의
+-- * MySQL 파티션 테이블은 모든 PK/UNIQUE 키에 파티션 컬럼이 포함돼야 한다.
+--   → PK (id) → (id, found_date), uk_dog_details_number (number) → (number, found_date)
+--   같은 이름을 유지하므로 spring.jpa.hibernate.ddl-auto=update 가 제약을 다시 만들지 않는다.
+--   공고번호 upsert(ON DUPLICATE KEY)는 (number, found_date) 기준이 된다. 발견일이 바뀐 공고는 새 행이 되므로
+--   적용 전 보관 작업(POST /api/admin/dog-details/archive)으로 종료 공고를 먼저 정리해 두는 것을 권장.
+-- * found_date 는 NOT NULL 이어야 한다. NULL 행은 등록일로 채운다.
+-- * 파티션 테이블은 외래 키를 가질 수 없다 (현재 dog_details 를 참조하는 FK 없음).
+-- * 목록 기본 조회는 보관 작업으로 작아진 현재 테이블만 읽는다. 발견일 조건이 없는 기본 조회는 파티션을 거르지 않고,
+--   foundFrom/foundTo 범위 조건이 있을 때만 해당 월 파티션만 읽는다(partition pruning).
+--   EXPLAIN 의 partitions 컬럼으로 확인.
+-- * 월 파티션 유지: 적용 후에는 DogDetailsPartitionMaintainer 가 기동 시 + 매월 1일(app.archive.partitions.cron)
+--   마지막 월 파티션 다음 달부터 이번 달 + months-ahead 까지를 p_future 에서 분할한다.
+--   수동 실행: POST /api/admin/dog-details/partitions
+
+UPDATE dog_details SET found_date = DATE(created_at) WHERE found_date IS NULL;
+ALTER TABLE dog_details MODIFY found_date DATE NOT NULL;
+
+ALTER TABLE dog_details
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, found_date),
+    DROP INDEX uk_dog_details_number,
+    ADD UNIQUE KEY uk_dog_details_number (number, found_date);
+
+-- 초기 파티션: 운영 데이터 범위에 맞게 조정. 이후 월마다 p_future 를 분할(REORGANIZE)한다.
+ALTER TABLE dog_details
+    PARTITION BY RANGE COLUMNS (found_date) (
+        PARTITION p_old    VALUES LESS THAN ('2024-01-01'),
+        PARTITION p202401  VALUES LESS THAN ('2024-02-01'),
+        PARTITION p202402  VALUES LESS THAN ('2024-03-01'),
+        PARTITION p202403  VALUES LESS THAN ('2024-04-01'),
+        PARTITION p202404  VALUES LESS THAN ('2024-05-01'),
+        PARTITION p202405  VALUES LESS THAN ('2024-06-01'),
+        PARTITION p202406  VALUES LESS THAN ('2024-07-01'),
+        PARTITION p202407  VALUES LESS THAN ('2024-08-01'),
+        PARTITION p202408  VALUES LESS THAN ('2024-09-01'),
+        PARTITION p202409  VALUES LESS THAN ('2024-10-01'),
+        PARTITION p202410  VALUES LESS THAN ('2024-11-01'),
+        PARTITION p202411  VALUES LESS THAN ('2024-12-01'),
+        PARTITION p202412  VALUES LESS THAN ('2025-01-01'),
+        PARTITION p202501  VALUES LESS THAN ('2025-02-01'),
+        PARTITION p202502  VALUES LESS THAN ('2025-03-01'),
+        PARTITION p202503  VALUES LESS THAN ('2025-04-01'),
+        PARTITION p202504  VALUES LESS THAN ('2025-05-01'),
+        PARTITION p202505  VALUES LESS THAN ('2025-06-01'),
+        PARTITION p202506  VALUES LESS THAN ('2025-07-01'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 월 파티션 추가 예시 (DogDetailsPartitionMaintainer 가 자동으로 실행하는 문장과 같은 형태)
+-- ALTER TABLE dog_details REORGANIZE PARTITION p_future INTO (
+--     PARTITION p202507 VALUES LESS THAN ('2025-08-01'),
+--     PARTITION p_future VALUES LESS THAN (MAXVALUE)
+-- );
@@ -0,0 +1,40 @@
+package com.example.animal.service.breed;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * AI 서비스 normalize_breed 와의 일치 확인.
+ * 같은 케이스 파일을 AI/test_breed.py 도 읽는다.
+ */
+class BreedAliasDictionaryParityTest {
+
+    private static final Path CASES = Path.of("..", "docs", "fixtures", "breed_normalize_cases.tsv");
+
+    private static BreedAliasDictionary dictionary;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        dictionary = new BreedAliasDictionary();
+        dictionary.load();
+    }
+
+    @TestFactory
+    List<DynamicTest> sharedCases() throws IOException {
+        return Files.readAllLines(CASES, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .map(line -> line.split("\t"))
+                .map(cols -> DynamicTest.dynamicTest(cols[0], () ->
+                        assertEquals(cols[1], dictionary.canonicalize(cols[0]))))
+                .toList();
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.animal.service.ingest;
+
+import com.example.animal.controller.StubAnimalApiController;
+import com.example.animal.dto.SyncReportDto;
+import com.example.animal.dto.projection.DogNumberStateProjection;
+import com.example.animal.entity.DogDetails;
+import com.example.animal.entity.SyncWatermark;
+import com.example.animal.event.DogDetailsChangedEvent;
+import com.example.animal.repository.DogDetailsArchiveRepository;
+import com.example.animal.repository.DogDetailsRepository;
+import com.example.animal.repository.SyncWatermarkRepository;
+import com.example.animal.service.age.DogAgeService;
+import com.example.animal.service.breed.DogBreedCanonicalService;
+import com.example.animal.service.color.DogColorService;
+import com.example.animal.service.geo.DogGeocodingService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 증분 동기화: StubAnimalApiController 응답을 그대로 파싱해서 페이징/상태 전이/실패 경로 확인.
+ * DB 는 공고번호 → (id, 상태) 맵으로 대신한다.
+ */
+class DogDetailsSyncServiceTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AnimalApiClient parser =
+            new AnimalApiClient(new RestTemplateBuilder(), objectMapper, null, "http://localhost/unused", "test");
+
+    private final Map<String, Row> table = new LinkedHashMap<>();
+    private final List<Map<String, String>> requests = new ArrayList<>();
+    private final List<DogDetailsChangedEvent> events = new ArrayList<>();
+
+    private JsonNode items;
+    private AnimalApiClient client;
+    private DogDetailsRepository dogDetailsRepository;
+    private SyncWatermarkRepository watermarkRepository;
+    private SimpleMeterRegistry registry;
+    private DogDetailsSyncService service;
+    private SyncWatermark savedMark;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = new ClassPathResource("stub/abandonment-public.json").getInputStream()) {
+            items = objectMapper.readTree(in).path("items");
+        }
+
+        client = mock(AnimalApiClient.class);
+        when(client.fetchPage(anyInt(), anyInt(), anyMap(), any())).thenAnswer(inv -> {
+            Map<String, String> params = inv.getArgument(2);
+            requests.add(params);
+            JsonNode body = new StubAnimalApiController(objectMapper, items).abandonmentPublic(
+                    inv.getArgument(0), inv.getArgument(1),
+                    params.get("bgupd"), params.get("enupd"), params.get("bgnde"), params.get("endde"));
+            return parser.parse(body.toString());
+        });
+
+        DogDetailsUpsertWriter writer = mock(DogDetailsUpsertWriter.class);
+        doAnswer(inv -> {
+            List<DogDetails> rows = inv.getArgument(0);
+            for (DogDetails d : rows) {
+                Row prev = table.get(d.getNumber());
+                long id = prev == null ? table.size() + 1L : prev.getId();
+                table.put(d.getNumber(), new Row(id, d.getNumber(), d.getState()));
+            }
+            return null;
+        }).when(writer).upsert(anyList(), anyInt());
+
+        dogDetailsRepository = mock(DogDetailsRepository.class);
+        when(dogDetailsRepository.findStatesByNumberIn(anyCollection())).thenAnswer(inv -> {
+            Collection<String> numbers = inv.getArgument(0);
+            return numbers.stream().map(table::get).filter(Objects::nonNull).toList();
+        });
+
+        DogDetailsArchiveRepository archiveRepository = mock(DogDetailsArchiveRepository.class);
+        when(archiveRepository.findNumbersByNumberIn(anyCollection())).thenReturn(List.of());
+
+        watermarkRepository = mock(SyncWatermarkRepository.class);
+        when(watermarkRepository.findById(DogDetailsSyncService.SOURCE))
+                .thenAnswer(inv -> Optional.ofNullable(savedMark));
+        when(watermarkRepository.save(any(SyncWatermark.class))).thenAnswer(inv -> {
+            SyncWatermark m = inv.getArgument(0);
+            savedMark = SyncWatermark.builder().source(m.getSource()).watermark(m.getWatermark())
+                    .lastRunAt(m.getLastRunAt()).lastRowCount(m.getLastRowCount()).build();
+            return m;
+        });
+
+        ApplicationEventPublisher publisher = event -> events.add((DogDetailsChangedEvent) event);
+        DogDetailsIngestMapper mapper = new DogDetailsIngestMapper(mock(DogGeocodingService.class),
+                mock(DogBreedCanonicalService.class), mock(DogColorService.class), mock(DogAgeService.class));
+
+        registry = new SimpleMeterRegistry();
+        service = new DogDetailsSyncService(client, mapper, writer, dogDetailsRepository, archiveRepository,
+                watermarkRepository, publisher, registry, true, PAGE_SIZE, 2, 1, 3650);
+    }
+
+    @Test
+    void initialSyncPagesThroughEveryItem() {
+        SyncReportDto report = service.sync();
+
+        int total = items.size();
+        assertEquals(total, report.getFetched());
+        assertEquals(total, report.getApplied());
+        assertEquals(total, report.getInserted());
+        assertEquals(0, report.getStateTransitions());
+        assertEquals(LocalDateTime.of(2025, 3, 20, 11, 0), report.getWatermark());
+
+        // 최초 적재는 발생일 기간, 전체 페이지를 끝까지 조회
+        assertEquals((total + PAGE_SIZE - 1) / PAGE_SIZE, requests.size());
+        assertTrue(requests.get(0).containsKey("bgnde"));
+        assertEquals(total, table.size());
+        assertEquals(total, events.stream().mapToInt(e -> e.ids().size()).sum());
+        assertTrue(events.stream().noneMatch(DogDetailsChangedEvent::isAll));
+    }
+
+    @Test
+    void incrementalSyncOnlyAppliesUpdatesAndCountsStateTransitions() {
+        service.sync();
+        requests.clear();
+        events.clear();
+        clearInvocations(dogDetailsRepository);
+
+        ObjectNode changed = (ObjectNode) items.get(0);
+        changed.put("processState", "종료(입양)");
+        changed.put("updTm", "2025-03-25 10:00:00.0");
+        Row before = table.get(changed.path("noticeNo").asText());
+
+        SyncReportDto report = service.sync();
+
+        // bgupd = 워터마크(3/20) - overlap 1일 → 3/20 수정분(겹침)과 새로 바뀐 1건만 받음
+        assertEquals("20250319", requests.get(0).get("bgupd"));
+        assertEquals(2, report.getFetched());
+        assertEquals(2, report.getApplied());
+        assertEquals(0, report.getInserted());
+        assertEquals(1, report.getStateTransitions());
+        assertEquals(LocalDateTime.of(2025, 3, 25, 10, 0), report.getWatermark());
+        assertEquals("종료(입양)", table.get(before.getNumber()).getState());
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).ids().contains(before.getId()));
+        // 기존 행만 바뀌었으므로 반영 전 조회 결과의 id 를 그대로 사용 (재조회 없음)
+        verify(dogDetailsRepository, times(1)).findStatesByNumberIn(anyCollection());
+    }
+
+    @Test
+    void noChangesPublishesNoEvent() {
+        service.sync();
+        events.clear();
+        for (JsonNode item : items) ((ObjectNode) item).put("updTm", "2025-01-01 00:00:00.0");
+
+        SyncReportDto report = service.sync();
+
+        assertEquals(0, report.getFetched());
+        assertEquals(0, report.getApplied());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void failedSyncKeepsWatermarkAndLagKeepsGrowing() {
+        service.sync();
+        SyncWatermark afterFirst = savedMark;
+        double lagAfterSuccess = registry.get("dog_details.sync.lag.seconds").gauge().value();
+        assertTrue(lagAfterSuccess >= 0 && lagAfterSuccess < 5);
+
+        reset(client);
+        when(client.fetchPage(anyInt(), anyInt(), anyMap(), any()))
+                .thenThrow(new IllegalStateException("구조동물 API 오류: 22 LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"));
+
+        service.scheduledSync();
+
+        assertEquals(1.0, registry.get("dog_details.sync.failures").counter().count());
+        assertSame(afterFirst, savedMark);
+        assertEquals(LocalDateTime.of(2025, 3, 20, 11, 0), savedMark.getWatermark());
+        // lag 은 마지막 성공 시각 기준이라 실패해도 줄지 않음
+        assertTrue(registry.get("dog_details.sync.lag.seconds").gauge().value() >= lagAfterSuccess);
+
+        // 실패 후에도 running 플래그가 풀려서 다시 실행 가능
+        reset(client);
+        when(client.fetchPage(anyInt(), anyInt(), anyMap(), any()))
+                .thenAnswer(inv -> parser.parse("{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{\"totalCount\":0}}}"));
+        assertEquals(0, service.sync().getFetched());
+    }
+
+    private static final class Row implements DogNumberStateProjection {
+        private final Long id;
+        private final String number;
+        private final String state;
+
+        Row(Long id, String number, String state) {
+            this.id = id;
+            this.number = number;
+            this.state = state;
+        }
+
+        @Override public Long getId() { return id; }
+        @Override public String getNumber() { return number; }
+        @Override public String getState() { return state; }
+    }
+}